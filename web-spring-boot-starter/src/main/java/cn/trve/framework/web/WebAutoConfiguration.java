@@ -1,8 +1,10 @@
 package cn.trve.framework.web;
 
+import cn.trve.framework.web.config.bean.WebBeans;
 import cn.trve.framework.web.config.prop.WebProperties;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
 
 /**
  * <pre>
@@ -21,5 +23,6 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
  */
 @SpringBootConfiguration
 @EnableConfigurationProperties(WebProperties.class)
+@Import(WebBeans.class)
 public class WebAutoConfiguration {
 }
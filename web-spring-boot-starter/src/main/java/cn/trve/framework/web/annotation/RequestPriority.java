@@ -0,0 +1,32 @@
+package cn.trve.framework.web.annotation;
+
+import cn.trve.framework.web.constant.enums.PriorityEnum;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <pre>
+ * <b>请求优先级</b>
+ * <b>Description:</b> 标注在controller类或方法上, 方法上的优先级覆盖类上的.
+ * 未标注的接口按 {@link PriorityEnum#NORMAL} 处理.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 10:15    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @see cn.trve.framework.web.aop.LoadSheddingFilter
+ * @since 2026/10/19
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface RequestPriority {
+    PriorityEnum value() default PriorityEnum.NORMAL;
+}
@@ -0,0 +1,185 @@
+package cn.trve.framework.web.aop;
+
+import cn.trve.framework.web.constant.enums.LogLevelEnum;
+import cn.trve.framework.web.exception.ExceptionFingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <pre>
+ * <b>异常日志限流</b>
+ * <b>Description:</b>
+ * 按异常类型与消息模板限制日志输出: 每个时间窗口内同类异常最多输出permits条, 多出的只计数.
+ * 后台线程每个窗口汇总输出一次被抑制的条数, 异常停止后也不会丢失, 避免异常风暴压垮日志输出.
+ * 汇总日志使用 {@link WebExceptionHandler} 的logger和被抑制异常的日志级别.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 15:40    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public class ExceptionLogLimiter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebExceptionHandler.class);
+
+    /**
+     * 不限流
+     */
+    public static final ExceptionLogLimiter UNLIMITED = new ExceptionLogLimiter();
+
+    private final int permits;
+    private final long windowNanos;
+    private final int maxKeys;
+    private final Map<ExceptionFingerprint, Window> windows = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private ExceptionLogLimiter() {
+        this.permits = Integer.MAX_VALUE;
+        this.windowNanos = 0;
+        this.maxKeys = 0;
+        this.scheduler = null;
+    }
+
+    /**
+     * @param permits 每个窗口内每类异常最多输出的条数
+     * @param window  窗口长度(毫秒), 同时是汇总被抑制条数的周期
+     * @param maxKeys 最多跟踪的异常种类, 超出后逐个淘汰
+     */
+    public ExceptionLogLimiter(int permits, long window, int maxKeys) {
+        this.permits = permits;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(window);
+        this.maxKeys = maxKeys;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "exception-log-limiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 申请输出一条日志
+     *
+     * @param key   限流键, 由异常类型和消息模板组成, 见 {@link ExceptionFingerprint#withoutFrames(Throwable)}
+     * @param level 日志级别, 用于输出被抑制条数的汇总
+     * @return 允许输出返回true
+     */
+    public boolean tryAcquire(ExceptionFingerprint key, LogLevelEnum level) {
+        if (permits == Integer.MAX_VALUE) {
+            return true;
+        }
+        long now = System.nanoTime();
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxKeys) {
+                evictOne(now);
+            }
+            window = windows.computeIfAbsent(key, k -> new Window(now));
+        }
+        window.level = level;
+        window.roll(now, windowNanos);
+        if (window.count.incrementAndGet() <= permits) {
+            return true;
+        }
+        window.suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 输出各类异常被抑制的条数, 并移除两个窗口内没有出现的异常
+     */
+    void flush() {
+        long now = System.nanoTime();
+        for (Iterator<Map.Entry<ExceptionFingerprint, Window>> iterator = windows.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<ExceptionFingerprint, Window> entry = iterator.next();
+            Window window = entry.getValue();
+            report(entry.getKey(), window);
+            if (now - window.start >= 2 * windowNanos) {
+                iterator.remove();
+                //移除前后并发抑制的条数
+                report(entry.getKey(), window);
+            }
+        }
+    }
+
+    /**
+     * 已跟踪的异常种类数
+     *
+     * @return 种类数
+     */
+    public int size() {
+        return windows.size();
+    }
+
+    /**
+     * 停止后台汇总, 并输出剩余的被抑制条数
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            windows.forEach(this::report);
+        }
+    }
+
+    /**
+     * 种类已满时淘汰一个: 优先淘汰窗口已过期的, 都未过期则淘汰遍历到的第一个, 其余种类的计数不受影响
+     */
+    private void evictOne(long now) {
+        Map.Entry<ExceptionFingerprint, Window> victim = null;
+        for (Map.Entry<ExceptionFingerprint, Window> entry : windows.entrySet()) {
+            if (victim == null) {
+                victim = entry;
+            }
+            if (now - entry.getValue().start >= windowNanos) {
+                victim = entry;
+                break;
+            }
+        }
+        if (victim != null && windows.remove(victim.getKey(), victim.getValue())) {
+            report(victim.getKey(), victim.getValue());
+        }
+    }
+
+    private void report(ExceptionFingerprint key, Window window) {
+        int suppressed = window.suppressed.getAndSet(0);
+        if (suppressed > 0) {
+            window.level.log(LOGGER, "同类异常已抑制" + suppressed + "条: " + key, null);
+        }
+    }
+
+    private static final class Window {
+        private volatile long start;
+        private volatile LogLevelEnum level = LogLevelEnum.ERROR;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicInteger suppressed = new AtomicInteger();
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        private void roll(long now, long windowNanos) {
+            if (now - start < windowNanos) {
+                return;
+            }
+            synchronized (this) {
+                if (now - start >= windowNanos) {
+                    count.set(0);
+                    start = now;
+                }
+            }
+        }
+    }
+}
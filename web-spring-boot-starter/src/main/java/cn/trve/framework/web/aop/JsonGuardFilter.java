@@ -0,0 +1,207 @@
+package cn.trve.framework.web.aop;
+
+import cn.trve.framework.web.config.prop.WebProperties;
+import cn.trve.framework.web.constant.enums.DataFormatEnum;
+import cn.trve.framework.web.constant.enums.LogLevelEnum;
+import cn.trve.framework.web.exception.BusinessException;
+import cn.trve.framework.web.json.JsonLimits;
+import cn.trve.framework.web.json.JsonValidator;
+import cn.trve.framework.web.util.JsonUtils;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <pre>
+ * <b>JSON请求体校验过滤器</b>
+ * <b>Description:</b>
+ * 对Content-Type为JSON的请求, 在进入controller之前用 {@link JsonValidator} 流式校验请求体,
+ * 超出嵌套层数、字符串长度、请求体大小或对象字段数上限的请求不会交给Jackson绑定.
+ * Smile/CBOR请求体同样交给Jackson绑定, 按相同的上限用对应格式的解析器校验.
+ * Content-Length超过上限时不读取请求体直接拒绝. 校验通过的请求体缓存后交给后续处理.
+ * 校验失败抛出 {@link BusinessException}, 由 {@link ExceptionFilter} 交给全局异常处理器.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/22 15:20    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/22
+ */
+public class JsonGuardFilter implements Filter {
+
+    private final Map<DataFormatEnum, JsonValidator> validators = new EnumMap<>(DataFormatEnum.class);
+    private final int maxBodyLength;
+
+    public JsonGuardFilter(WebProperties.JsonGuard props) {
+        JsonLimits limits = JsonLimits.builder()
+                .maxDepth(props.getMaxDepth())
+                .maxStringLength(props.getMaxStringLength())
+                .maxDocumentLength(props.getMaxDocumentLength())
+                .maxObjectFields(props.getMaxObjectFields())
+                .build();
+        //与Spring MVC的Jackson转换器一致, JSON按严格模式校验
+        for (DataFormatEnum format : DataFormatEnum.values()) {
+            validators.put(format, new JsonValidator(JsonUtils.getCodecs(format), limits));
+        }
+        this.maxBodyLength = (int) Math.min(limits.getMaxDocumentLength(), Integer.MAX_VALUE - 8);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        DataFormatEnum format = formatOf(httpRequest.getContentType());
+        if (format == null || httpRequest.getContentLengthLong() == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (httpRequest.getContentLengthLong() > maxBodyLength) {
+            throw reject(new JsonValidator.Violation(JsonValidator.Type.DOCUMENT_LENGTH,
+                    "请求体长度超过" + maxBodyLength, -1, -1, httpRequest.getContentLengthLong()));
+        }
+        //多读一个字节以判断是否超过上限
+        byte[] body = httpRequest.getInputStream().readNBytes(maxBodyLength + 1);
+        if (body.length == 0) {
+            chain.doFilter(new CachedBodyRequest(httpRequest, body), response);
+            return;
+        }
+        JsonValidator.Violation violation = body.length > maxBodyLength
+                ? new JsonValidator.Violation(JsonValidator.Type.DOCUMENT_LENGTH, "请求体长度超过" + maxBodyLength,
+                -1, -1, maxBodyLength)
+                : validators.get(format).validate(body);
+        if (violation != null) {
+            throw reject(violation);
+        }
+        chain.doFilter(new CachedBodyRequest(httpRequest, body), response);
+    }
+
+    /**
+     * 识别需要校验的请求体格式
+     *
+     * @return JSON及+json、Smile、CBOR, 其他类型返回null
+     */
+    private static DataFormatEnum formatOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (MediaType.APPLICATION_JSON.includes(mediaType) || mediaType.getSubtype().endsWith("+json")) {
+                return DataFormatEnum.JSON;
+            }
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        DataFormatEnum format = DataFormatEnum.ofContentType(contentType);
+        return format == DataFormatEnum.JSON ? null : format;
+    }
+
+    private static BusinessException reject(JsonValidator.Violation violation) {
+        return BusinessException.builder()
+                .message("请求体JSON校验失败: {}", violation)
+                .viewMessage("请求体不合法: {}", violation)
+                .logLevelEnum(LogLevelEnum.WARN)
+                .stackless()
+                .build();
+    }
+
+    /**
+     * 请求体已读出, 以缓存的字节重新提供输入流
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 请求体已全部在内存中, 立即回调: 有数据时通知可读, 读完后通知结束
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    Objects.requireNonNull(readListener, "readListener");
+                    try {
+                        //监听器每次可能只读一部分, 有进展时继续通知
+                        int available = in.available();
+                        while (available > 0) {
+                            readListener.onDataAvailable();
+                            int remaining = in.available();
+                            if (remaining == available) {
+                                return;
+                            }
+                            available = remaining;
+                        }
+                        readListener.onAllDataRead();
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package cn.trve.framework.web.aop;
+
+import cn.trve.framework.web.annotation.RequestPriority;
+import cn.trve.framework.web.config.prop.WebProperties;
+import cn.trve.framework.web.constant.enums.PriorityEnum;
+import cn.trve.framework.web.model.Result;
+import cn.trve.framework.web.util.JsonUtils;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * <b>过载保护过滤器</b>
+ * <b>Description:</b>
+ * 限制同时处理的请求数, 超出的请求排队等待处理许可.
+ * 参考CoDel, 以一个观测周期内的最小排队时延判断是否过载:
+ * 最小时延都超过目标值说明队列无法排空, 此时直接拒绝低优先级请求, 把处理能力留给重要接口.
+ * 被拒绝的请求返回503和 {@link Result.Status#SERVICE_UNAVAILABLE}.
+ * 优先级取自请求头(需配置)或 {@link RequestPriority} 注解.
+ * 注解按请求方法和路径缓存, 只在未命中时查找handler; 没有任何接口标注优先级时不做查找.
+ * 仅靠请求头、参数等条件区分的同路径接口共用第一次解析的优先级.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 10:30    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public class LoadSheddingFilter implements Filter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoadSheddingFilter.class);
+
+    /**
+     * 按路径缓存优先级的最大条数, 带路径变量的接口每个取值占一条, 超出后不再缓存, 每次查找handler
+     */
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final String priorityHeader;
+    private final PriorityEnum shedPriority;
+    private final long maxQueueTimeNanos;
+    private final long targetDelayNanos;
+    private final long intervalNanos;
+
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Method, PriorityEnum> priorityCache = new ConcurrentHashMap<>();
+    private final Map<String, PriorityEnum> pathPriorities = new ConcurrentHashMap<>();
+    /**
+     * 是否有接口标注了优先级, 首次请求时计算
+     */
+    private volatile Boolean annotated;
+
+    /**
+     * 当前观测周期的结束时间
+     */
+    private final AtomicLong intervalEnd;
+    /**
+     * 当前观测周期内的最小排队时延
+     */
+    private final AtomicLong minSojourn = new AtomicLong(Long.MAX_VALUE);
+    private volatile boolean overloaded;
+
+    private final byte[] rejectBody;
+
+    public LoadSheddingFilter(WebProperties.LoadShedding props, RequestMappingHandlerMapping handlerMapping) {
+        this.handlerMapping = handlerMapping;
+        this.priorityHeader = props.getPriorityHeader();
+        this.shedPriority = props.getShedPriority();
+        this.maxQueueTimeNanos = TimeUnit.MILLISECONDS.toNanos(props.getMaxQueueTime());
+        this.targetDelayNanos = TimeUnit.MILLISECONDS.toNanos(props.getTargetDelay());
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(props.getInterval());
+        this.permits = new Semaphore(props.getMaxInFlight());
+        this.intervalEnd = new AtomicLong(System.nanoTime() + intervalNanos);
+        //响应内容固定, 提前序列化
+        this.rejectBody = JsonUtils.to(Result.fail(Result.Status.SERVICE_UNAVAILABLE))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        PriorityEnum priority = resolvePriority((HttpServletRequest) request);
+
+        //关键请求不排队也不丢弃
+        if (priority == PriorityEnum.CRITICAL) {
+            inFlight.incrementAndGet();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return;
+        }
+
+        if (overloaded && priority.isLowerOrEqual(shedPriority)) {
+            updateState();
+            reject((HttpServletResponse) response, priority);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean acquired = permits.tryAcquire();
+        if (!acquired) {
+            try {
+                acquired = permits.tryAcquire(maxQueueTimeNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        minSojourn.accumulateAndGet(System.nanoTime() - start, Math::min);
+        updateState();
+
+        if (!acquired) {
+            reject((HttpServletResponse) response, priority);
+            return;
+        }
+        inFlight.incrementAndGet();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    /**
+     * 当前正在处理的请求数
+     *
+     * @return 请求数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 是否处于过载状态
+     *
+     * @return 过载返回true
+     */
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+
+    /**
+     * 观测周期结束时根据周期内的最小排队时延更新过载状态.
+     * 周期内没有样本(请求都被直接拒绝)说明没有排队, 视为恢复.
+     */
+    private void updateState() {
+        long now = System.nanoTime();
+        long end = intervalEnd.get();
+        if (now - end >= 0 && intervalEnd.compareAndSet(end, now + intervalNanos)) {
+            long min = minSojourn.getAndSet(Long.MAX_VALUE);
+            boolean current = min != Long.MAX_VALUE && min > targetDelayNanos;
+            if (current != overloaded) {
+                LOGGER.warn("过载状态变更: {}, 最小排队时延: {}ms, 处理中请求数: {}", current,
+                        TimeUnit.NANOSECONDS.toMillis(min == Long.MAX_VALUE ? 0 : min), inFlight.get());
+            }
+            overloaded = current;
+        }
+    }
+
+    private void reject(HttpServletResponse response, PriorityEnum priority) throws IOException {
+        LOGGER.debug("过载保护拒绝请求, 优先级: {}", priority);
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(rejectBody.length);
+        response.getOutputStream().write(rejectBody);
+    }
+
+    private PriorityEnum resolvePriority(HttpServletRequest request) {
+        if (priorityHeader != null) {
+            String value = request.getHeader(priorityHeader);
+            if (value != null) {
+                try {
+                    return PriorityEnum.valueOf(value.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException ignored) {
+                    //非法的优先级按注解处理
+                }
+            }
+        }
+        if (handlerMapping == null || !hasAnnotatedHandlers()) {
+            return PriorityEnum.NORMAL;
+        }
+        String key = request.getMethod() + ' ' + request.getRequestURI();
+        PriorityEnum priority = pathPriorities.get(key);
+        if (priority == null) {
+            priority = lookupPriority(request);
+            if (priority == null) {
+                //没有匹配的接口(如404扫描)不缓存, 避免占满缓存
+                return PriorityEnum.NORMAL;
+            }
+            if (pathPriorities.size() < MAX_CACHED_PATHS) {
+                pathPriorities.putIfAbsent(key, priority);
+            }
+        }
+        return priority;
+    }
+
+    private boolean hasAnnotatedHandlers() {
+        Boolean result = annotated;
+        if (result == null) {
+            result = handlerMapping.getHandlerMethods().values().stream()
+                    .anyMatch(handlerMethod -> priorityOf(handlerMethod) != PriorityEnum.NORMAL);
+            annotated = result;
+        }
+        return result;
+    }
+
+    /**
+     * 查找处理请求的接口并读取其优先级
+     *
+     * @param request 请求
+     * @return 优先级, 没有匹配的接口时返回null
+     */
+    private PriorityEnum lookupPriority(HttpServletRequest request) {
+        //DispatcherServlet之前需要自行解析请求路径, 查找handler还会在请求上留下匹配结果, 用完后全部还原
+        Set<String> existing = new HashSet<>(Collections.list(request.getAttributeNames()));
+        Object previousPath = request.getAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE);
+        try {
+            ServletRequestPathUtils.parseAndCache(request);
+            HandlerExecutionChain handlerChain = handlerMapping.getHandler(request);
+            if (handlerChain != null && handlerChain.getHandler() instanceof HandlerMethod handlerMethod) {
+                return priorityOf(handlerMethod);
+            }
+        } catch (Exception e) {
+            LOGGER.debug("无法解析请求优先级: ", e);
+        } finally {
+            for (String name : Collections.list(request.getAttributeNames())) {
+                if (!existing.contains(name)) {
+                    request.removeAttribute(name);
+                }
+            }
+            if (previousPath != null) {
+                request.setAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE, previousPath);
+            }
+        }
+        return null;
+    }
+
+    private PriorityEnum priorityOf(HandlerMethod handlerMethod) {
+        return priorityCache.computeIfAbsent(handlerMethod.getMethod(),
+                method -> findPriority(method, handlerMethod.getBeanType()));
+    }
+
+    private static PriorityEnum findPriority(Method method, Class<?> beanType) {
+        RequestPriority annotation = AnnotatedElementUtils.findMergedAnnotation(method, RequestPriority.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(beanType, RequestPriority.class);
+        }
+        return annotation == null ? PriorityEnum.NORMAL : annotation.value();
+    }
+}
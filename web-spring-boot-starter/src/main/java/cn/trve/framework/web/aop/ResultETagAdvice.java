@@ -0,0 +1,145 @@
+package cn.trve.framework.web.aop;
+
+import cn.trve.framework.web.converter.EncodedResult;
+import cn.trve.framework.web.converter.ResultHttpMessageConverter;
+import cn.trve.framework.web.model.Result;
+import cn.trve.framework.web.model.Versioned;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * <pre>
+ * <b>Result响应的ETag</b>
+ * <b>Description:</b>
+ * 为GET/HEAD请求成功的 {@link Result} 响应生成ETag, 与If-None-Match匹配时返回304且不写出响应体.
+ * ETag按以下顺序确定:
+ *   1. controller已设置的ETag响应头;
+ *   2. data实现了 {@link Versioned} 且版本不为null时, 由类型、标识与版本生成弱ETag, 无需序列化;
+ *   3. 由 {@link ResultHttpMessageConverter} 写出时, 序列化为字节后按SHA-256摘要生成强ETag,
+ *      未命中时以 {@link EncodedResult} 原样写出同一份字节, 只序列化一次.
+ * 其他转换器(如Smile)写出且没有版本时不生成ETag.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/23 14:40    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/23
+ */
+@ControllerAdvice
+public class ResultETagAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultETagAdvice.class);
+
+    private final ResultHttpMessageConverter converter;
+    private final boolean contentHash;
+
+    /**
+     * @param converter   用于计算摘要, 与写出响应的转换器相同, 保证摘要与响应字节一致
+     * @param contentHash 没有版本时是否按响应内容生成ETag
+     */
+    public ResultETagAdvice(ResultHttpMessageConverter converter, boolean contentHash) {
+        this.converter = converter;
+        this.contentHash = contentHash;
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+            @NonNull MediaType selectedContentType,
+            @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        if (!(body instanceof Result<?> result) || !Result.OK.code().equals(result.getCode())
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || (request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD)) {
+            return body;
+        }
+        HttpServletResponse httpResponse = servletResponse.getServletResponse();
+        if (httpResponse.getStatus() != HttpServletResponse.SC_OK) {
+            return body;
+        }
+        Object output = body;
+        String etag = response.getHeaders().getETag();
+        if (etag != null) {
+            //交给checkNotModified写入, 避免重复的响应头
+            response.getHeaders().remove(HttpHeaders.ETAG);
+        } else {
+            etag = httpResponse.getHeader(HttpHeaders.ETAG);
+        }
+        if (etag == null) {
+            etag = versionTag(result.getData());
+        }
+        if (etag == null && contentHash && selectedConverterType == ResultHttpMessageConverter.class) {
+            byte[] encoded = encode(result);
+            etag = encoded == null ? null : contentTag(encoded);
+            if (etag != null) {
+                output = EncodedResult.of(encoded);
+            }
+        }
+        if (etag == null) {
+            return body;
+        }
+        ServletWebRequest webRequest = new ServletWebRequest(servletRequest.getServletRequest(), httpResponse);
+        return webRequest.checkNotModified(etag) ? null : output;
+    }
+
+    private static String versionTag(Object data) {
+        if (!(data instanceof Versioned versioned)) {
+            return null;
+        }
+        Object version = versioned.getVersion();
+        if (version == null) {
+            return null;
+        }
+        Object key = versioned.versionKey();
+        return "W/\"" + data.getClass().getSimpleName() + (key == null ? "" : "-" + key) + "-" + version + '"';
+    }
+
+    /**
+     * 序列化失败时返回null, 交给转换器写出并按原有方式处理异常
+     */
+    private byte[] encode(Result<?> result) {
+        try {
+            return converter.toBytes(result);
+        } catch (IOException e) {
+            LOGGER.warn("序列化响应失败, 跳过ETag: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String contentTag(byte[] body) {
+        try {
+            return '"' + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body)) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            LOGGER.warn("计算ETag失败, 跳过: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package cn.trve.framework.web.aop;
 
 import cn.trve.framework.web.constant.dict.SystemConstant;
+import cn.trve.framework.web.constant.enums.LogLevelEnum;
 import cn.trve.framework.web.exception.BaseRuntimeException;
+import cn.trve.framework.web.exception.ExceptionFingerprint;
 import cn.trve.framework.web.model.Result;
+import cn.trve.framework.web.monitor.ExceptionStatistics;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +14,7 @@ import org.springframework.validation.BindException;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,9 +35,26 @@ public class WebExceptionHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebExceptionHandler.class);
 
+    /**
+     * Result不可变, 固定内容的响应共用同一个实例
+     */
+    private static final Result<?> UNKNOWN_EXCEPTION_RESULT = Result.fail(SystemConstant.DEFAULT_UNKNOWN_EXCEPTION_VIEW_MESSAGE);
+
+    private final ExceptionLogLimiter logLimiter;
+    private final ExceptionStatistics statistics;
+
+    public WebExceptionHandler() {
+        this(ExceptionLogLimiter.UNLIMITED, null);
+    }
+
+    public WebExceptionHandler(ExceptionLogLimiter logLimiter, ExceptionStatistics statistics) {
+        this.logLimiter = logLimiter;
+        this.statistics = statistics;
+    }
+
     @ExceptionHandler
-    public ResponseEntity<Result<?>> methodArgumentNotValid(BindException e) {
-        log(e);
+    public ResponseEntity<Result<?>> methodArgumentNotValid(BindException e, HttpServletRequest request) {
+        log(e, request);
 
         List<ObjectError> allErrors = e.getBindingResult().getAllErrors();
 
@@ -44,19 +66,27 @@ public class WebExceptionHandler {
     }
 
     @ExceptionHandler()
-    public ResponseEntity<Result<?>> unknownException(Exception e) {
-        log(e);
+    public ResponseEntity<Result<?>> unknownException(Exception e, HttpServletRequest request) {
+        log(e, request);
 
-        return ResponseEntity.ok(Result.fail(SystemConstant.DEFAULT_UNKNOWN_EXCEPTION_VIEW_MESSAGE));
+        return ResponseEntity.ok(UNKNOWN_EXCEPTION_RESULT);
     }
 
     @ExceptionHandler()
-    public ResponseEntity<Result<?>> baseRuntimeException(BaseRuntimeException e) {
-        log(e);
+    public ResponseEntity<Result<?>> baseRuntimeException(BaseRuntimeException e, HttpServletRequest request) {
+        log(e, request);
         return ResponseEntity.ok(Result.fail(e.getViewMessage()));
     }
 
-    private void log(Throwable e) {
+    private void log(Throwable e, HttpServletRequest request) {
+        LogLevelEnum level = e instanceof BaseRuntimeException be ? be.getLogLevel() : LogLevelEnum.ERROR;
+        if (statistics != null) {
+            statistics.record(ExceptionFingerprint.of(e), route(request), level);
+        }
+        //限流只按类型和信息模板区分, 不读取堆栈; 被抑制的条数由限流器定时汇总输出
+        if (!level.isEnabled(LOGGER) || !logLimiter.tryAcquire(ExceptionFingerprint.withoutFrames(e), level)) {
+            return;
+        }
         if (e instanceof BaseRuntimeException be) {
             be.log(LOGGER);
         } else {
@@ -64,6 +94,14 @@ public class WebExceptionHandler {
         }
     }
 
+    /**
+     * 优先使用接口的路径模板, 避免路径参数导致路由数量膨胀
+     */
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
 
 }
 
@@ -1,11 +1,35 @@
 package cn.trve.framework.web.config.bean;
 
 import cn.trve.framework.web.aop.ExceptionFilter;
+import cn.trve.framework.web.aop.ExceptionLogLimiter;
+import cn.trve.framework.web.aop.JsonGuardFilter;
+import cn.trve.framework.web.aop.LoadSheddingFilter;
+import cn.trve.framework.web.aop.ResultETagAdvice;
 import cn.trve.framework.web.aop.WebExceptionHandler;
+import cn.trve.framework.web.config.prop.WebProperties;
+import cn.trve.framework.web.converter.ResultHttpMessageConverter;
+import cn.trve.framework.web.monitor.ExceptionStatistics;
+import cn.trve.framework.web.monitor.ExceptionStatisticsController;
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+import java.util.ListIterator;
 
 /**
  * <pre>
@@ -25,8 +49,48 @@ import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExc
 public class WebBeans {
     //<editor-fold desc="异常处理">
     @Bean
-    public WebExceptionHandler globalExceptionHandler() {
-        return new WebExceptionHandler();
+    public WebExceptionHandler globalExceptionHandler(ExceptionLogLimiter exceptionLogLimiter,
+            ObjectProvider<ExceptionStatistics> statistics) {
+        return new WebExceptionHandler(exceptionLogLimiter, statistics.getIfAvailable());
+    }
+
+    /**
+     * 异常日志限流, 容器关闭时停止汇总线程并输出剩余的被抑制条数
+     *
+     * @param webProperties 配置
+     * @return 异常日志限流
+     */
+    @Bean
+    public ExceptionLogLimiter exceptionLogLimiter(WebProperties webProperties) {
+        WebProperties.ExceptionLog exceptionLog = webProperties.getExceptionLog();
+        return exceptionLog.isLimitEnabled()
+                ? new ExceptionLogLimiter(exceptionLog.getPermits(), exceptionLog.getWindow(), exceptionLog.getMaxKeys())
+                : ExceptionLogLimiter.UNLIMITED;
+    }
+
+    /**
+     * 异常统计, 由全局异常处理上报
+     *
+     * @param webProperties 配置
+     * @return 异常统计
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = WebProperties.ExceptionStats.PREFIX, name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public ExceptionStatistics exceptionStatistics(WebProperties webProperties) {
+        return new ExceptionStatistics(webProperties.getExceptionStats().getMaxKeys());
+    }
+
+    /**
+     * 异常统计查询接口
+     *
+     * @param statistics 异常统计
+     * @return 查询接口
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = WebProperties.ExceptionStats.PREFIX, name = "endpoint-enabled", havingValue = "true")
+    public ExceptionStatisticsController exceptionStatisticsController(ExceptionStatistics statistics) {
+        return new ExceptionStatisticsController(statistics);
     }
 
     /**
@@ -45,4 +109,151 @@ public class WebBeans {
         return registration;
     }
     //</editor-fold>
+
+    //<editor-fold desc="消息转换">
+
+    /**
+     * Result响应转换器
+     *
+     * @param objectMapper spring容器中的ObjectMapper
+     * @return Result响应转换器
+     * 注册为bean后会排在默认的Jackson转换器之前.
+     */
+    @Bean
+    public ResultHttpMessageConverter resultHttpMessageConverter(ObjectMapper objectMapper) {
+        return new ResultHttpMessageConverter(objectMapper);
+    }
+
+    /**
+     * 为spring容器中的ObjectMapper注册Blackbird模块, 与JsonUtils共用同一开关
+     *
+     * @return Blackbird模块, spring boot会将Module类型的bean注册到ObjectMapper
+     */
+    @Bean
+    @ConditionalOnProperty(name = JsonUtils.BLACKBIRD_PROPERTY, havingValue = "true")
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Smile/CBOR消息转换器, 按Content-Type/Accept选择, 配置与JsonUtils相同.
+     * classpath上有Smile/CBOR时spring已按默认ObjectMapper注册了转换器, 且排在追加的转换器之前,
+     * 因此原位替换默认转换器(保持排在JSON之后, 未指定具体Accept时仍优先返回JSON); 关闭时移除, 不再支持这两种格式.
+     * 是否拒绝未知字段跟随spring的JSON转换器, 同一个请求体无论以JSON还是二进制格式提交, 绑定结果一致.
+     *
+     * @param webProperties 配置
+     * @return 替换转换器的配置
+     */
+    @Bean
+    public WebMvcConfigurer binaryMessageConverterConfigurer(WebProperties webProperties) {
+        boolean enabled = webProperties.getBinaryCodec().isEnabled();
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                boolean smile = false;
+                boolean cbor = false;
+                boolean failOnUnknown = converters.stream()
+                        .filter(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class)
+                        .findFirst()
+                        .map(converter -> ((MappingJackson2HttpMessageConverter) converter).getObjectMapper()
+                                .isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES))
+                        .orElse(false);
+                ObjectMapper smileMapper = alignUnknownProperties(JsonUtils.getSmileObjectMapper(), failOnUnknown);
+                ObjectMapper cborMapper = alignUnknownProperties(JsonUtils.getCborObjectMapper(), failOnUnknown);
+                for (ListIterator<HttpMessageConverter<?>> iterator = converters.listIterator(); iterator.hasNext(); ) {
+                    HttpMessageConverter<?> converter = iterator.next();
+                    if (converter instanceof MappingJackson2SmileHttpMessageConverter) {
+                        if (enabled && !smile) {
+                            iterator.set(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+                            smile = true;
+                        } else {
+                            iterator.remove();
+                        }
+                    } else if (converter instanceof MappingJackson2CborHttpMessageConverter) {
+                        if (enabled && !cbor) {
+                            iterator.set(new MappingJackson2CborHttpMessageConverter(cborMapper));
+                            cbor = true;
+                        } else {
+                            iterator.remove();
+                        }
+                    }
+                }
+                //自定义了转换器列表时没有默认转换器, 追加在末尾
+                if (enabled && !smile) {
+                    converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+                }
+                if (enabled && !cbor) {
+                    converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+                }
+            }
+        };
+    }
+
+    /**
+     * 未知字段的处理与spring不同时使用副本, 不影响JsonUtils
+     */
+    private static ObjectMapper alignUnknownProperties(ObjectMapper mapper, boolean failOnUnknown) {
+        if (mapper.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES) == failOnUnknown) {
+            return mapper;
+        }
+        return mapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, failOnUnknown);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="过载保护">
+
+    /**
+     * 过载保护过滤器
+     *
+     * @param webProperties  配置
+     * @param handlerMapping 用于查找接口上的优先级注解
+     * @return 过载保护过滤器
+     * 在异常过滤器之后、controller之前执行, 尽早拒绝低优先级请求.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = WebProperties.LoadShedding.PREFIX, name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilterRegistration(WebProperties webProperties,
+            @Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new LoadSheddingFilter(webProperties.getLoadShedding(), handlerMapping));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="请求体校验">
+
+    /**
+     * JSON请求体校验过滤器
+     *
+     * @param webProperties 配置
+     * @return JSON请求体校验过滤器
+     * 在过载保护之后执行, 被拒绝的请求不需要读取请求体.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = WebProperties.JsonGuard.PREFIX, name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<JsonGuardFilter> jsonGuardFilterRegistration(WebProperties webProperties) {
+        FilterRegistrationBean<JsonGuardFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new JsonGuardFilter(webProperties.getJsonGuard()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="条件响应">
+
+    /**
+     * Result响应的ETag
+     *
+     * @param webProperties 配置
+     * @param converter     Result消息转换器, 用于按响应字节计算摘要
+     * @return ETag处理
+     * GET/HEAD请求命中If-None-Match时返回304, 不写出响应体.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = WebProperties.ETag.PREFIX, name = "enabled", havingValue = "true")
+    public ResultETagAdvice resultETagAdvice(WebProperties webProperties, ResultHttpMessageConverter converter) {
+        return new ResultETagAdvice(converter, webProperties.getEtag().isContentHash());
+    }
+    //</editor-fold>
 }
@@ -1,6 +1,7 @@
 package cn.trve.framework.web.config.prop;
 
 import cn.trve.framework.web.constant.dict.SystemConstant;
+import cn.trve.framework.web.constant.enums.PriorityEnum;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -20,4 +21,423 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = WebProperties.PREFIX )
 public class WebProperties {
     public static final String PREFIX = SystemConstant.DEFAULT_PROP_KEY_PREFIX+ "web";
+
+    /**
+     * 过载保护
+     */
+    private LoadShedding loadShedding = new LoadShedding();
+
+    /**
+     * 异常日志
+     */
+    private ExceptionLog exceptionLog = new ExceptionLog();
+
+    /**
+     * 异常统计
+     */
+    private ExceptionStats exceptionStats = new ExceptionStats();
+
+    /**
+     * 二进制编码
+     */
+    private BinaryCodec binaryCodec = new BinaryCodec();
+
+    /**
+     * JSON请求体校验
+     */
+    private JsonGuard jsonGuard = new JsonGuard();
+
+    /**
+     * GET响应的ETag
+     */
+    private ETag etag = new ETag();
+
+    public LoadShedding getLoadShedding() {
+        return loadShedding;
+    }
+
+    public void setLoadShedding(LoadShedding loadShedding) {
+        this.loadShedding = loadShedding;
+    }
+
+    public ExceptionLog getExceptionLog() {
+        return exceptionLog;
+    }
+
+    public void setExceptionLog(ExceptionLog exceptionLog) {
+        this.exceptionLog = exceptionLog;
+    }
+
+    public ExceptionStats getExceptionStats() {
+        return exceptionStats;
+    }
+
+    public void setExceptionStats(ExceptionStats exceptionStats) {
+        this.exceptionStats = exceptionStats;
+    }
+
+    public BinaryCodec getBinaryCodec() {
+        return binaryCodec;
+    }
+
+    public void setBinaryCodec(BinaryCodec binaryCodec) {
+        this.binaryCodec = binaryCodec;
+    }
+
+    public JsonGuard getJsonGuard() {
+        return jsonGuard;
+    }
+
+    public void setJsonGuard(JsonGuard jsonGuard) {
+        this.jsonGuard = jsonGuard;
+    }
+
+    public ETag getEtag() {
+        return etag;
+    }
+
+    public void setEtag(ETag etag) {
+        this.etag = etag;
+    }
+
+    /**
+     * 过载保护配置
+     */
+    public static class LoadShedding {
+        public static final String PREFIX = WebProperties.PREFIX + ".load-shedding";
+
+        /**
+         * 是否开启
+         */
+        private boolean enabled = false;
+
+        /**
+         * 最大并发处理数(CRITICAL请求不受限制)
+         */
+        private int maxInFlight = 200;
+
+        /**
+         * 获取处理许可的最长排队时间(毫秒)，超时则拒绝
+         */
+        private long maxQueueTime = 500;
+
+        /**
+         * 排队时延目标(毫秒)，一个观测周期内的最小排队时延超过该值即认为过载
+         */
+        private long targetDelay = 5;
+
+        /**
+         * 观测周期(毫秒)
+         */
+        private long interval = 100;
+
+        /**
+         * 过载时丢弃小于等于该优先级的请求
+         */
+        private PriorityEnum shedPriority = PriorityEnum.NORMAL;
+
+        /**
+         * 携带优先级的请求头，为空则不从请求头读取(请求头可被客户端伪造，仅建议内网开启)
+         */
+        private String priorityHeader;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public long getMaxQueueTime() {
+            return maxQueueTime;
+        }
+
+        public void setMaxQueueTime(long maxQueueTime) {
+            this.maxQueueTime = maxQueueTime;
+        }
+
+        public long getTargetDelay() {
+            return targetDelay;
+        }
+
+        public void setTargetDelay(long targetDelay) {
+            this.targetDelay = targetDelay;
+        }
+
+        public long getInterval() {
+            return interval;
+        }
+
+        public void setInterval(long interval) {
+            this.interval = interval;
+        }
+
+        public PriorityEnum getShedPriority() {
+            return shedPriority;
+        }
+
+        public void setShedPriority(PriorityEnum shedPriority) {
+            this.shedPriority = shedPriority;
+        }
+
+        public String getPriorityHeader() {
+            return priorityHeader;
+        }
+
+        public void setPriorityHeader(String priorityHeader) {
+            this.priorityHeader = priorityHeader;
+        }
+    }
+
+    /**
+     * 全局异常处理的日志配置
+     */
+    public static class ExceptionLog {
+
+        /**
+         * 是否按异常类型与信息模板限流
+         */
+        private boolean limitEnabled = true;
+
+        /**
+         * 每个窗口内同类异常最多打印的条数
+         */
+        private int permits = 10;
+
+        /**
+         * 窗口长度(毫秒), 同时是汇总输出被抑制条数的周期
+         */
+        private long window = 10000;
+
+        /**
+         * 最多跟踪的异常种类
+         */
+        private int maxKeys = 1024;
+
+        public boolean isLimitEnabled() {
+            return limitEnabled;
+        }
+
+        public void setLimitEnabled(boolean limitEnabled) {
+            this.limitEnabled = limitEnabled;
+        }
+
+        public int getPermits() {
+            return permits;
+        }
+
+        public void setPermits(int permits) {
+            this.permits = permits;
+        }
+
+        public long getWindow() {
+            return window;
+        }
+
+        public void setWindow(long window) {
+            this.window = window;
+        }
+
+        public int getMaxKeys() {
+            return maxKeys;
+        }
+
+        public void setMaxKeys(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+    }
+
+    /**
+     * 异常统计配置
+     */
+    public static class ExceptionStats {
+        public static final String PREFIX = WebProperties.PREFIX + ".exception-stats";
+
+        /**
+         * 是否统计
+         */
+        private boolean enabled = true;
+
+        /**
+         * 是否开放查询接口
+         */
+        private boolean endpointEnabled = false;
+
+        /**
+         * 查询接口路径
+         */
+        private String path = "/exception-stats";
+
+        /**
+         * 最多统计的种类, 每个种类约占2.4KB
+         */
+        private int maxKeys = 512;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isEndpointEnabled() {
+            return endpointEnabled;
+        }
+
+        public void setEndpointEnabled(boolean endpointEnabled) {
+            this.endpointEnabled = endpointEnabled;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public int getMaxKeys() {
+            return maxKeys;
+        }
+
+        public void setMaxKeys(int maxKeys) {
+            this.maxKeys = maxKeys;
+        }
+    }
+
+    /**
+     * 二进制编码(Smile/CBOR)配置
+     */
+    public static class BinaryCodec {
+        public static final String PREFIX = WebProperties.PREFIX + ".binary-codec";
+
+        /**
+         * 是否支持Smile/CBOR, 开启时以JsonUtils的配置替换spring默认的Smile/CBOR消息转换器, 关闭时移除.
+         * 默认关闭, 只在内部节点之间需要二进制传输时开启
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * JSON请求体校验配置, 在进入controller之前按结构上限流式校验请求体
+     */
+    public static class JsonGuard {
+        public static final String PREFIX = WebProperties.PREFIX + ".json-guard";
+
+        /**
+         * 是否开启
+         */
+        private boolean enabled = false;
+
+        /**
+         * 最大嵌套层数
+         */
+        private int maxDepth = 64;
+
+        /**
+         * 字符串与字段名的最大字符数
+         */
+        private int maxStringLength = 64 * 1024;
+
+        /**
+         * 请求体最大字节数
+         */
+        private long maxDocumentLength = 2L * 1024 * 1024;
+
+        /**
+         * 单个对象的最大字段数
+         */
+        private int maxObjectFields = 1000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxDepth() {
+            return maxDepth;
+        }
+
+        public void setMaxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+        }
+
+        public int getMaxStringLength() {
+            return maxStringLength;
+        }
+
+        public void setMaxStringLength(int maxStringLength) {
+            this.maxStringLength = maxStringLength;
+        }
+
+        public long getMaxDocumentLength() {
+            return maxDocumentLength;
+        }
+
+        public void setMaxDocumentLength(long maxDocumentLength) {
+            this.maxDocumentLength = maxDocumentLength;
+        }
+
+        public int getMaxObjectFields() {
+            return maxObjectFields;
+        }
+
+        public void setMaxObjectFields(int maxObjectFields) {
+            this.maxObjectFields = maxObjectFields;
+        }
+    }
+
+    /**
+     * GET响应的ETag配置, 为成功的Result响应生成ETag并响应If-None-Match
+     */
+    public static class ETag {
+        public static final String PREFIX = WebProperties.PREFIX + ".etag";
+
+        /**
+         * 是否开启
+         */
+        private boolean enabled = false;
+
+        /**
+         * 没有版本时是否按响应内容的SHA-256生成ETag, 关闭后只使用controller设置的ETag与数据版本
+         */
+        private boolean contentHash = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isContentHash() {
+            return contentHash;
+        }
+
+        public void setContentHash(boolean contentHash) {
+            this.contentHash = contentHash;
+        }
+    }
 }
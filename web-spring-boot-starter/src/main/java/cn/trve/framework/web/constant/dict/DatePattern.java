@@ -1,5 +1,8 @@
 package cn.trve.framework.web.constant.dict;
 
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 日提供常用的日期、时间格式常量
@@ -62,6 +65,60 @@ public interface DatePattern {
      */
     String CHINESE_DATE_TIME_PATTERN = "yyyy年MM月dd日HH时mm分ss秒";
 
+    /**
+     * 标准日期格式：yyyy-MM-dd
+     */
+    DateTimeFormatter NORM_DATE_FORMATTER = Formatters.of(NORM_DATE_PATTERN);
+
+    /**
+     * 标准时间格式：HH:mm:ss
+     */
+    DateTimeFormatter NORM_TIME_FORMATTER = Formatters.of(NORM_TIME_PATTERN);
+
+    /**
+     * 标准日期时间格式，精确到秒：yyyy-MM-dd HH:mm:ss
+     */
+    DateTimeFormatter NORM_DATETIME_FORMATTER = Formatters.of(NORM_DATETIME_PATTERN);
+
+    /**
+     * 标准日期时间格式，精确到毫秒：yyyy-MM-dd HH:mm:ss.SSS
+     */
+    DateTimeFormatter NORM_DATETIME_MS_FORMATTER = Formatters.of(NORM_DATETIME_MS_PATTERN);
+
+    /**
+     * ISO8601日期时间格式，精确到毫秒：yyyy-MM-dd HH:mm:ss,SSS
+     */
+    DateTimeFormatter ISO8601_FORMATTER = Formatters.of(ISO8601_PATTERN);
+
+    /**
+     * <b>格式化器注册表</b>
+     * {@link DateTimeFormatter} 不可变且线程安全, 按格式缓存, 避免重复解析格式.
+     */
+    final class Formatters {
+        private static final int MAX_SIZE = 256;
+        private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+        private Formatters() {
+        }
+
+        /**
+         * 获取格式对应的格式化器
+         *
+         * @param pattern 格式
+         * @return 格式化器
+         */
+        public static DateTimeFormatter of(String pattern) {
+            DateTimeFormatter formatter = FORMATTERS.get(pattern);
+            if (formatter == null) {
+                formatter = DateTimeFormatter.ofPattern(pattern);
+                if (FORMATTERS.size() < MAX_SIZE) {
+                    FORMATTERS.putIfAbsent(pattern, formatter);
+                }
+            }
+            return formatter;
+        }
+    }
+
     interface Pure {
         /**
          * 标准日期格式：yyyyMMdd
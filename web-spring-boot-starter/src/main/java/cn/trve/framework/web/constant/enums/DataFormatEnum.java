@@ -0,0 +1,61 @@
+package cn.trve.framework.web.constant.enums;
+
+/**
+ * <pre>
+ * <b>数据编码格式</b>
+ * <b>Description: 服务间传输支持的编码格式, JSON面向外部调用方, SMILE/CBOR为二进制格式, 用于内部节点之间</b>
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/21 11:05    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/21
+ */
+public enum DataFormatEnum {
+    /**
+     * JSON
+     */
+    JSON("application/json"),
+    /**
+     * Jackson Smile二进制JSON
+     */
+    SMILE("application/x-jackson-smile"),
+    /**
+     * CBOR(RFC 8949)
+     */
+    CBOR("application/cbor"),
+    ;
+
+    private final String mediaType;
+
+    DataFormatEnum(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 根据Content-Type识别编码格式, 忽略参数与大小写, 无法识别时视为JSON
+     *
+     * @param contentType Content-Type请求头
+     * @return 编码格式
+     */
+    public static DataFormatEnum ofContentType(String contentType) {
+        if (contentType == null) {
+            return JSON;
+        }
+        int end = contentType.indexOf(';');
+        String type = (end < 0 ? contentType : contentType.substring(0, end)).trim();
+        for (DataFormatEnum format : values()) {
+            if (format.mediaType.equalsIgnoreCase(type)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+}
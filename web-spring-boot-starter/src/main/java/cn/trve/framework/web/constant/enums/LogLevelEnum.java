@@ -48,6 +48,46 @@ public enum LogLevelEnum {
 
     ;
 
+    /**
+     * 按级别打印日志, 直接分派到对应方法
+     *
+     * @param logger  日志对象
+     * @param message 日志信息
+     * @param t       异常, 可以为null
+     */
+    public void log(Logger logger, String message, Throwable t) {
+        switch (this) {
+            case TRACE -> logger.trace(message, t);
+            case DEBUG -> logger.debug(message, t);
+            case INFO -> logger.info(message, t);
+            case WARN -> logger.warn(message, t);
+            case ERROR -> logger.error(message, t);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 当前级别是否会输出
+     *
+     * @param logger 日志对象
+     * @return 会输出返回true
+     */
+    public boolean isEnabled(Logger logger) {
+        return switch (this) {
+            case TRACE -> logger.isTraceEnabled();
+            case DEBUG -> logger.isDebugEnabled();
+            case INFO -> logger.isInfoEnabled();
+            case WARN -> logger.isWarnEnabled();
+            case ERROR -> logger.isErrorEnabled();
+            default -> false;
+        };
+    }
+
+    /**
+     * 每次调用都会反射查找方法, 请使用 {@link #log(Logger, String, Throwable)}
+     */
+    @Deprecated
     public Method getLogMethod() {
         Method method;
         try {
@@ -0,0 +1,45 @@
+package cn.trve.framework.web.constant.enums;
+
+/**
+ * <pre>
+ * <b>请求优先级</b>
+ * <b>Description: 定义过载保护时的请求优先级，越靠前越重要</b>
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 10:12    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public enum PriorityEnum {
+    /**
+     * 关键请求，永不丢弃
+     */
+    CRITICAL,
+    /**
+     * 高优先级
+     */
+    HIGH,
+    /**
+     * 普通优先级
+     */
+    NORMAL,
+    /**
+     * 低优先级，过载时最先丢弃
+     */
+    LOW,
+    ;
+
+    /**
+     * 是否不高于给定的优先级
+     *
+     * @param other 比较的优先级
+     * @return 当前优先级小于等于other时返回true
+     */
+    public boolean isLowerOrEqual(PriorityEnum other) {
+        return this.ordinal() >= other.ordinal();
+    }
+}
@@ -0,0 +1,39 @@
+package cn.trve.framework.web.converter;
+
+import cn.trve.framework.web.model.Result;
+
+/**
+ * <pre>
+ * <b>已序列化的Result</b>
+ * <b>Description:</b>
+ * 响应体已按 {@link ResultHttpMessageConverter} 序列化为字节, 转换器直接写出, 不再序列化.
+ * 用于写出前需要响应字节的场景, 如按内容摘要生成ETag, 摘要与写出的是同一份字节.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/23 15:10    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/23
+ */
+public final class EncodedResult {
+
+    private final byte[] body;
+
+    private EncodedResult(byte[] body) {
+        this.body = body;
+    }
+
+    /**
+     * @param body 与 {@link ResultHttpMessageConverter#toBytes(Result)} 相同的UTF-8字节, 不复制
+     */
+    public static EncodedResult of(byte[] body) {
+        return new EncodedResult(body);
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
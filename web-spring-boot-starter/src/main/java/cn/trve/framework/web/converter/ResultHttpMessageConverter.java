@@ -0,0 +1,124 @@
+package cn.trve.framework.web.converter;
+
+import cn.trve.framework.web.model.Result;
+import cn.trve.framework.web.model.StreamingResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <pre>
+ * <b>Result响应转换器</b>
+ * <b>Description:</b>
+ * 只负责写出 {@link Result} 和 {@link StreamingResult}, 固定内容的响应直接写出 {@link ResultPayloadCache} 中缓存的字节,
+ * 其余的由 {@link ResultJsonWriter} 直接写入响应输出流, 流式结果边读边写; {@link EncodedResult} 原样写出.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 11:40    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public class ResultHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final ResultJsonWriter resultWriter;
+    private final ResultPayloadCache payloadCache;
+
+    public ResultHttpMessageConverter(ObjectMapper objectMapper) {
+        this(new ResultJsonWriter(objectMapper));
+    }
+
+    public ResultHttpMessageConverter(ResultJsonWriter resultWriter) {
+        this(resultWriter, new ResultPayloadCache(resultWriter));
+    }
+
+    public ResultHttpMessageConverter(ResultJsonWriter resultWriter, ResultPayloadCache payloadCache) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.resultWriter = resultWriter;
+        this.payloadCache = payloadCache;
+    }
+
+    @Override
+    protected boolean supports(@NonNull Class<?> clazz) {
+        return Result.class.isAssignableFrom(clazz) || StreamingResult.class.isAssignableFrom(clazz)
+                || EncodedResult.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    @NonNull
+    protected Object readInternal(@NonNull Class<?> clazz, @NonNull HttpInputMessage inputMessage)
+            throws HttpMessageNotReadableException {
+        throw new HttpMessageNotReadableException("不支持读取Result", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(@NonNull Object object, MediaType contentType) {
+        if (object instanceof StreamingResult<?>) {
+            return null;
+        }
+        if (object instanceof EncodedResult encoded) {
+            return (long) encoded.getBody().length;
+        }
+        byte[] cached = payloadCache.get((Result<?>) object);
+        return cached == null ? null : (long) cached.length;
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, @NonNull HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        writeTo(object, outputMessage.getBody());
+    }
+
+    /**
+     * 将结果写入输出流, 不会关闭输出流
+     *
+     * @param object       响应结果
+     * @param outputStream 输出流
+     * @throws IOException IO异常
+     */
+    public void writeTo(Object object, OutputStream outputStream) throws IOException {
+        if (object instanceof StreamingResult<?> streamingResult) {
+            resultWriter.write(streamingResult, outputStream);
+            return;
+        }
+        if (object instanceof EncodedResult encoded) {
+            outputStream.write(encoded.getBody());
+            return;
+        }
+        Result<?> result = (Result<?>) object;
+        byte[] cached = payloadCache.get(result);
+        if (cached != null) {
+            outputStream.write(cached);
+            return;
+        }
+        resultWriter.write(result, outputStream);
+    }
+
+    /**
+     * 序列化为与写出时相同的字节, 固定内容的响应返回缓存的字节(不可修改)
+     *
+     * @param result 响应结果
+     * @return UTF-8字节
+     * @throws IOException 序列化异常
+     */
+    public byte[] toBytes(Result<?> result) throws IOException {
+        byte[] cached = payloadCache.get(result);
+        return cached != null ? cached : resultWriter.toBytes(result);
+    }
+}
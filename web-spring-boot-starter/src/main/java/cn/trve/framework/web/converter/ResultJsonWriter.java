@@ -0,0 +1,202 @@
+package cn.trve.framework.web.converter;
+
+import cn.trve.framework.web.model.Result;
+import cn.trve.framework.web.model.StreamingResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * <b>Result序列化</b>
+ * <b>Description:</b>
+ * 信封字段(code、reason、level)直接通过 {@link JsonGenerator} 写出, 不经过Jackson的反射序列化,
+ * 只有data交给按类型缓存的 {@link ObjectWriter}.
+ * 字段的null值处理与ObjectMapper的默认包含策略一致.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 13:05    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public class ResultJsonWriter {
+
+    public static final String FIELD_CODE = "code";
+    public static final String FIELD_REASON = "reason";
+    public static final String FIELD_LEVEL = "level";
+    public static final String FIELD_DATA = "data";
+
+    /**
+     * 流式写出时每多少条数据刷出一次
+     */
+    public static final int DEFAULT_FLUSH_SIZE = 512;
+
+    private final ObjectMapper objectMapper;
+    private final boolean writeNulls;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public ResultJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig()
+                .getDefaultPropertyInclusion().getValueInclusion();
+        this.writeNulls = inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS;
+    }
+
+    /**
+     * 将结果写入输出流, 不会关闭输出流
+     *
+     * @param result       响应结果
+     * @param outputStream 输出流
+     * @throws IOException IO异常
+     */
+    public void write(Result<?> result, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            writeHeader(result.getCode(), result.getReason(), result.getLevel(), generator);
+            writeData(result.getData(), generator);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 逐条写出流式结果, 每 {@link #DEFAULT_FLUSH_SIZE} 条刷出一次, 结束后关闭数据源. 不会关闭输出流
+     *
+     * @param result       流式结果
+     * @param outputStream 输出流
+     * @throws IOException IO异常
+     */
+    public void write(StreamingResult<?> result, OutputStream outputStream) throws IOException {
+        write(result, outputStream, DEFAULT_FLUSH_SIZE);
+    }
+
+    /**
+     * 逐条写出流式结果, 结束后关闭数据源. 不会关闭输出流
+     *
+     * @param result       流式结果
+     * @param outputStream 输出流
+     * @param flushSize    每多少条数据刷出一次
+     * @throws IOException IO异常
+     */
+    public void write(StreamingResult<?> result, OutputStream outputStream, int flushSize) throws IOException {
+        try (result; JsonGenerator generator = createGenerator(outputStream)) {
+            writeHeader(result.getCode(), result.getReason(), result.getLevel(), generator);
+            generator.writeFieldName(FIELD_DATA);
+            generator.writeStartArray();
+            Iterator<?> iterator = result.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                Object value = iterator.next();
+                if (value == null) {
+                    generator.writeNull();
+                } else {
+                    writeValue(value, generator);
+                }
+                if (++count % flushSize == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 序列化为UTF-8编码的JSON
+     *
+     * @param result 响应结果
+     * @return JSON字节
+     * @throws IOException IO异常
+     */
+    public byte[] toBytes(Result<?> result) throws IOException {
+        ByteArrayBuilder builder = new ByteArrayBuilder();
+        write(result, builder);
+        return builder.toByteArray();
+    }
+
+    /**
+     * 创建不会关闭输出流的生成器.
+     * 关闭时不会补全未结束的数组和对象, 写出中途失败时客户端收到的是不完整的JSON, 而不是被截断却合法的成功响应
+     *
+     * @param outputStream 输出流
+     * @return 生成器
+     * @throws IOException IO异常
+     */
+    public JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputStream), JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        return generator;
+    }
+
+    /**
+     * 写出对象开始和信封字段, data及对象结束由调用方负责
+     *
+     * @param code      状态码
+     * @param reason    状态描述
+     * @param level     显示级别
+     * @param generator 生成器
+     * @throws IOException IO异常
+     */
+    public void writeHeader(String code, String reason, Enum<?> level, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        writeStringField(FIELD_CODE, code, generator);
+        writeStringField(FIELD_REASON, reason, generator);
+        writeStringField(FIELD_LEVEL, level == null ? null : level.name(), generator);
+    }
+
+    /**
+     * 写出data字段
+     *
+     * @param data      数据
+     * @param generator 生成器
+     * @throws IOException IO异常
+     */
+    public void writeData(Object data, JsonGenerator generator) throws IOException {
+        if (data == null) {
+            if (writeNulls) {
+                generator.writeNullField(FIELD_DATA);
+            }
+            return;
+        }
+        generator.writeFieldName(FIELD_DATA);
+        writeValue(data, generator);
+    }
+
+    /**
+     * 使用缓存的ObjectWriter写出一个值, 写出后不刷出, 由调用方决定何时刷出
+     *
+     * @param value     值, 不能为null
+     * @param generator 生成器
+     * @throws IOException IO异常
+     */
+    public void writeValue(Object value, JsonGenerator generator) throws IOException {
+        writers.computeIfAbsent(value.getClass(), this::createWriter).writeValue(generator, value);
+    }
+
+    private ObjectWriter createWriter(Class<?> type) {
+        //默认开启的FLUSH_AFTER_WRITE_VALUE会让每个值都刷到输出流, 流式写出时每个元素都会产生一次系统调用
+        return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    private void writeStringField(String name, String value, JsonGenerator generator) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        } else if (writeNulls) {
+            generator.writeNullField(name);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package cn.trve.framework.web.converter;
+
+import cn.trve.framework.web.constant.dict.SystemConstant;
+import cn.trve.framework.web.constant.enums.ViewLevelEnum;
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import cn.trve.framework.web.model.Result;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * <b>固定响应的序列化缓存</b>
+ * <b>Description:</b>
+ * 不带数据的 {@link Result} 序列化结果只由状态码、描述和显示级别决定,
+ * 异常处理等场景会反复返回相同的内容, 这里缓存其UTF-8编码的JSON字节.
+ * 只缓存预置的固定状态和通过 {@link #register(Result)} 显式登记的内容, 查询未命中时不会编码或缓存,
+ * 避免动态拼接的描述占满缓存, 也避免未命中时为计算长度和写出各序列化一次.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 11:20    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public class ResultPayloadCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final ResultJsonWriter resultWriter;
+    private final int maxSize;
+    private final Map<Key, byte[]> cache = new ConcurrentHashMap<>();
+
+    public ResultPayloadCache(ResultJsonWriter resultWriter) {
+        this(resultWriter, DEFAULT_MAX_SIZE);
+    }
+
+    public ResultPayloadCache(ResultJsonWriter resultWriter, int maxSize) {
+        this.resultWriter = resultWriter;
+        this.maxSize = maxSize;
+        preload();
+    }
+
+    /**
+     * 获取缓存的序列化结果
+     *
+     * @param result 响应结果
+     * @return UTF-8编码的JSON, 带数据或未登记的结果返回null
+     */
+    public byte[] get(Result<?> result) {
+        if (result.getData() != null) {
+            return null;
+        }
+        return cache.get(new Key(result.getCode(), result.getReason(), result.getLevel()));
+    }
+
+    /**
+     * 登记固定内容的响应, 只应用于描述不变的结果
+     *
+     * @param result 不带数据的响应结果
+     * @return 是否已缓存, 带数据或缓存已满时返回false
+     */
+    public boolean register(Result<?> result) {
+        if (result.getData() != null) {
+            return false;
+        }
+        Key key = new Key(result.getCode(), result.getReason(), result.getLevel());
+        if (cache.containsKey(key)) {
+            return true;
+        }
+        if (cache.size() >= maxSize) {
+            return false;
+        }
+        cache.putIfAbsent(key, encode(result));
+        return true;
+    }
+
+    /**
+     * 当前缓存的条目数
+     *
+     * @return 条目数
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private void preload() {
+        List<Result.Status> statuses = List.of(Result.Status.OK, Result.Status.BAD_REQUEST,
+                Result.Status.UNAUTHORIZED, Result.Status.FORBIDDEN, Result.Status.NOT_FOUND,
+                Result.Status.INTERNAL_SERVER_ERROR, Result.Status.SERVICE_UNAVAILABLE, Result.Status.FAIL);
+        for (Result.Status status : statuses) {
+            register(Result.fail(status));
+        }
+        register(Result.fail(SystemConstant.BASE_EXCEPTION_VIEW_MESSAGE));
+        register(Result.fail(SystemConstant.DEFAULT_BUSINESS_EXCEPTION_VIEW_MESSAGE));
+        register(Result.fail(SystemConstant.DEFAULT_UNKNOWN_EXCEPTION_VIEW_MESSAGE));
+    }
+
+    private byte[] encode(Result<?> result) {
+        try {
+            return resultWriter.toBytes(result);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    private record Key(String code, String reason, ViewLevelEnum level) {
+    }
+}
@@ -3,10 +3,11 @@ package cn.trve.framework.web.exception;
 import cn.trve.framework.web.constant.dict.SystemConstant;
 import cn.trve.framework.web.constant.enums.LogLevelEnum;
 import cn.trve.framework.web.constant.enums.ViewLevelEnum;
+import cn.trve.framework.web.util.MessageTemplate;
 import org.slf4j.Logger;
-import org.slf4j.helpers.MessageFormatter;
 
-import java.lang.reflect.InvocationTargetException;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 
 /**
  * <pre>
@@ -38,19 +39,111 @@ public class BaseRuntimeException extends RuntimeException {
      */
     protected ViewLevelEnum viewLevelEnum = ViewLevelEnum.ERROR;
 
+    /**
+     * 是否不记录堆栈
+     */
+    private final boolean stackless;
+
+    /**
+     * 异常信息模板, 用于归类同类异常
+     */
+    protected String messagePattern;
+
+    /**
+     * 延迟格式化的参数, 调用方需保证抛出后不再修改.
+     * 参数不一定可序列化, 序列化前先格式化, 只传输格式化后的异常信息
+     */
+    private final transient Object[] messageArgs;
+
+    /**
+     * 延迟格式化后的异常信息. 单例异常可能被多个线程同时读取, 通过volatile发布格式化结果,
+     * 并发时可能重复格式化, 但结果相同
+     */
+    private volatile String renderedMessage;
+
 
     public BaseRuntimeException(Throwable cause) {
         super(cause);
+        this.stackless = false;
+        this.messageArgs = null;
     }
 
+    /**
+     * 异常信息在第一次调用 {@link #getMessage()} 时才格式化, 没有被打印或展示的异常不产生格式化开销.
+     * 因此参数应当是不可变的, 抛出异常后修改参数会影响异常信息.
+     *
+     * @param messagePattern 异常信息模板，变量用{}代替
+     * @param args           参数列表
+     */
     public BaseRuntimeException(String messagePattern, Object... args) {
-        super(MessageFormatter.format(messagePattern, args).getMessage());
+        this(messagePattern, args, null, false);
     }
 
+    /**
+     * non-javadoc.
+     *
+     * @see BaseRuntimeException#BaseRuntimeException(String, Object...)
+     */
     public BaseRuntimeException(String messagePattern, Throwable cause, Object... args) {
-        super(MessageFormatter.format(messagePattern, args).getMessage(), cause);
+        this(messagePattern, args, cause, false);
+    }
+
+    /**
+     * 延迟格式化异常信息, 并可选择不记录堆栈的构造方法.
+     * 参数要求同 {@link #BaseRuntimeException(String, Object...)}, 抛出后不应再修改.
+     *
+     * @param messagePattern 异常信息模板，变量用{}代替
+     * @param args           参数列表
+     * @param cause          原因
+     * @param stackless      是否不记录堆栈
+     * @see BaseRuntimeException#BaseRuntimeException(String, Throwable, boolean)
+     */
+    protected BaseRuntimeException(String messagePattern, Object[] args, Throwable cause, boolean stackless) {
+        super(null, cause, !stackless, !stackless);
+        this.stackless = stackless;
+        this.messagePattern = messagePattern;
+        this.messageArgs = args;
+    }
+
+    /**
+     * 可选择不记录堆栈的构造方法.
+     * 业务异常多数是预期内的流程控制, 最终转换为Result返回, 堆栈没有意义,
+     * 不记录堆栈可以省掉fillInStackTrace的开销. 不记录堆栈的异常同时禁用了suppressed,
+     * 且cause不可再修改, 可以作为常量单例重复抛出.
+     * 子类可以通过该构造方法将整个异常类型设置为不记录堆栈.
+     *
+     * @param message   异常信息
+     * @param cause     原因
+     * @param stackless 是否不记录堆栈
+     */
+    protected BaseRuntimeException(String message, Throwable cause, boolean stackless) {
+        super(message, cause, !stackless, !stackless);
+        this.stackless = stackless;
+        this.messageArgs = null;
+    }
+
+
+    @Override
+    public String getMessage() {
+        String rendered = renderedMessage;
+        if (rendered == null && messagePattern != null && messageArgs != null) {
+            rendered = MessageTemplate.format(messagePattern, messageArgs);
+            renderedMessage = rendered;
+        }
+        if (rendered != null) {
+            return rendered;
+        }
+        String message = super.getMessage();
+        return message != null ? message : messagePattern;
     }
 
+    /**
+     * 序列化前格式化异常信息, 参数不参与序列化
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
 
     public LogLevelEnum getLogLevel() {
         return logLevelEnum;
@@ -64,6 +157,19 @@ public class BaseRuntimeException extends RuntimeException {
         return viewLevelEnum;
     }
 
+    public boolean isStackless() {
+        return stackless;
+    }
+
+    /**
+     * 获取异常信息模板
+     *
+     * @return 模板, 没有模板时返回异常信息
+     */
+    public String getMessagePattern() {
+        return messagePattern != null ? messagePattern : getMessage();
+    }
+
 
     public void throwIfTrue(boolean condition) {
         if (condition) {
@@ -78,15 +184,18 @@ public class BaseRuntimeException extends RuntimeException {
     }
 
     /**
-     * 打印日志
+     * 打印日志, 不记录堆栈的异常只打印类型和信息
      *
      * @param logger 日志对象
      */
     public void log(Logger logger) {
-        try {
-            this.getLogLevel().getLogMethod().invoke(logger, this.getMessage(), this);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            logger.error("无法打印日志: ", e);
+        if (!this.getLogLevel().isEnabled(logger)) {
+            return;
+        }
+        if (stackless) {
+            this.getLogLevel().log(logger, this.toString(), null);
+        } else {
+            this.getLogLevel().log(logger, this.getMessage(), this);
         }
     }
 
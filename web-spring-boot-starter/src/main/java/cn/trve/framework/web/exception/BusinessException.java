@@ -4,7 +4,7 @@ import cn.trve.framework.web.constant.dict.SystemConstant;
 import cn.trve.framework.web.constant.enums.LogLevelEnum;
 import cn.trve.framework.web.constant.enums.ViewLevelEnum;
 import java.util.Optional;
-import org.slf4j.helpers.MessageFormatter;
+import cn.trve.framework.web.util.MessageTemplate;
 
 /**
  * <pre>
@@ -17,6 +17,12 @@ import org.slf4j.helpers.MessageFormatter;
  *   1.0   2023/4/12 17:41    Wangtao     new file.
  * </pre>
  *
+ * 固定错误可以预先创建不记录堆栈的单例重复抛出, 例如:
+ * <pre class="code">
+ * public static final BusinessException NOT_FOUND = BusinessException.builder()
+ *         .message("数据不存在").viewMessage("数据不存在").stackless().build();
+ * </pre>
+ *
  * @author Wangtao
  * @since 2023/4/12
  */
@@ -42,12 +48,24 @@ public class BusinessException extends BaseRuntimeException {
         super.viewMessage = this.viewMessage;
     }
 
+    /**
+     * non-javadoc.
+     *
+     * @see BaseRuntimeException#BaseRuntimeException(String, Throwable, boolean)
+     */
+    protected BusinessException(String message, Throwable cause, boolean stackless) {
+        super(message, cause, stackless);
+        super.viewMessage = this.viewMessage;
+    }
+
     private BusinessException(Builder builder) {
-        super(builder.message, builder.cause);
-        setStackTrace(builder.stackTrace);
-        logLevelEnum = builder.logLevelEnum;
-        viewMessage = Optional.ofNullable(builder.viewMessage).orElse(this.viewMessage);
-        viewLevelEnum = builder.viewLevelEnum;
+        super(builder.messagePattern, builder.messageArgs, builder.cause, builder.stackless);
+        if (builder.stackTrace != null) {
+            setStackTrace(builder.stackTrace);
+        }
+        logLevelEnum = Optional.ofNullable(builder.logLevelEnum).orElse(logLevelEnum);
+        super.viewMessage = Optional.ofNullable(builder.viewMessage).orElse(this.viewMessage);
+        viewLevelEnum = Optional.ofNullable(builder.viewLevelEnum).orElse(viewLevelEnum);
     }
 
 
@@ -58,9 +76,11 @@ public class BusinessException extends BaseRuntimeException {
 
 
     public static final class Builder {
-        private String message;
+        private String messagePattern;
+        private Object[] messageArgs;
         private Throwable cause;
         private StackTraceElement[] stackTrace;
+        private boolean stackless;
         private LogLevelEnum logLevelEnum;
         private String viewMessage;
         private ViewLevelEnum viewLevelEnum;
@@ -69,7 +89,8 @@ public class BusinessException extends BaseRuntimeException {
         }
 
         public Builder message(String messagePattern, Object... args) {
-            message = MessageFormatter.format(messagePattern, args).getMessage();
+            this.messagePattern = messagePattern;
+            messageArgs = args;
             return this;
         }
 
@@ -83,13 +104,21 @@ public class BusinessException extends BaseRuntimeException {
             return this;
         }
 
+        /**
+         * 不记录堆栈, 适用于预期内的业务失败以及作为常量单例的异常
+         */
+        public Builder stackless() {
+            stackless = true;
+            return this;
+        }
+
         public Builder logLevelEnum(LogLevelEnum val) {
             logLevelEnum = val;
             return this;
         }
 
         public Builder viewMessage(String messagePattern, Object... args) {
-            viewMessage = MessageFormatter.format(messagePattern, args).getMessage();
+            viewMessage = MessageTemplate.format(messagePattern, args);
             return this;
         }
 
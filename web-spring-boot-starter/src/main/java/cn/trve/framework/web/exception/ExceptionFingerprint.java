@@ -0,0 +1,95 @@
+package cn.trve.framework.web.exception;
+
+/**
+ * <pre>
+ * <b>异常指纹</b>
+ * <b>Description:</b>
+ * 用于归类同类异常: 异常类型 + 前几帧堆栈 + 信息模板.
+ * {@link BaseRuntimeException} 使用构造时的信息模板, 其他异常将信息中的数字替换为#后作为模板,
+ * 避免id、数量等变量导致同一问题被拆成多类.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 15:20    Wangtao     new file.
+ * </pre>
+ *
+ * @param type     异常类型
+ * @param frames   前几帧堆栈
+ * @param template 信息模板
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public record ExceptionFingerprint(String type, String frames, String template) {
+
+    /**
+     * 参与计算的堆栈帧数
+     */
+    public static final int TOP_FRAMES = 3;
+
+    /**
+     * 计算异常指纹
+     *
+     * @param t 异常
+     * @return 指纹
+     */
+    public static ExceptionFingerprint of(Throwable t) {
+        return new ExceptionFingerprint(t.getClass().getName(), topFrames(t), template(t));
+    }
+
+    /**
+     * 只按异常类型和信息模板计算指纹, 不读取堆栈, 用于日志限流等每个异常都要经过的场景
+     *
+     * @param t 异常
+     * @return 堆栈为空的指纹
+     */
+    public static ExceptionFingerprint withoutFrames(Throwable t) {
+        return new ExceptionFingerprint(t.getClass().getName(), "", template(t));
+    }
+
+    private static String template(Throwable t) {
+        return t instanceof BaseRuntimeException be ? be.getMessagePattern() : normalize(t.getMessage());
+    }
+
+    private static String topFrames(Throwable t) {
+        StackTraceElement[] stackTrace = t.getStackTrace();
+        int size = Math.min(TOP_FRAMES, stackTrace.length);
+        if (size == 0) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(size * 64);
+        for (int i = 0; i < size; i++) {
+            StackTraceElement element = stackTrace[i];
+            builder.append(element.getClassName()).append('#').append(element.getMethodName())
+                    .append(':').append(element.getLineNumber()).append(';');
+        }
+        return builder.toString();
+    }
+
+    private static String normalize(String message) {
+        if (message == null) {
+            return null;
+        }
+        StringBuilder builder = null;
+        int length = message.length();
+        for (int i = 0; i < length; i++) {
+            char c = message.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (builder == null) {
+                    builder = new StringBuilder(length).append(message, 0, i);
+                }
+                if (builder.length() == 0 || builder.charAt(builder.length() - 1) != '#') {
+                    builder.append('#');
+                }
+            } else if (builder != null) {
+                builder.append(c);
+            }
+        }
+        return builder == null ? message : builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return type + ": " + template;
+    }
+}
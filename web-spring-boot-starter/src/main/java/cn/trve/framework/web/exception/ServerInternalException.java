@@ -3,7 +3,8 @@ package cn.trve.framework.web.exception;
 import cn.trve.framework.web.constant.dict.SystemConstant;
 import cn.trve.framework.web.constant.enums.LogLevelEnum;
 import cn.trve.framework.web.constant.enums.ViewLevelEnum;
-import org.slf4j.helpers.MessageFormatter;
+import java.util.Optional;
+import cn.trve.framework.web.util.MessageTemplate;
 
 /**
  * <pre>
@@ -34,12 +35,23 @@ public class ServerInternalException extends BaseRuntimeException {
         super(messagePattern, cause, args);
     }
 
+    /**
+     * non-javadoc.
+     *
+     * @see BaseRuntimeException#BaseRuntimeException(String, Throwable, boolean)
+     */
+    protected ServerInternalException(String message, Throwable cause, boolean stackless) {
+        super(message, cause, stackless);
+    }
+
     private ServerInternalException(Builder builder) {
-        super(builder.message, builder.cause);
-        setStackTrace(builder.stackTrace);
-        logLevelEnum = builder.logLevelEnum;
-        viewMessage = builder.viewMessage;
-        viewLevelEnum = builder.viewLevelEnum;
+        super(builder.messagePattern, builder.messageArgs, builder.cause, builder.stackless);
+        if (builder.stackTrace != null) {
+            setStackTrace(builder.stackTrace);
+        }
+        logLevelEnum = Optional.ofNullable(builder.logLevelEnum).orElse(logLevelEnum);
+        viewMessage = Optional.ofNullable(builder.viewMessage).orElse(viewMessage);
+        viewLevelEnum = Optional.ofNullable(builder.viewLevelEnum).orElse(viewLevelEnum);
     }
 
     public static ServerInternalException.Builder builder() {
@@ -48,9 +60,11 @@ public class ServerInternalException extends BaseRuntimeException {
 
 
     public static final class Builder {
-        private String message;
+        private String messagePattern;
+        private Object[] messageArgs;
         private Throwable cause;
         private StackTraceElement[] stackTrace;
+        private boolean stackless;
         private LogLevelEnum logLevelEnum;
         private String viewMessage;
         private ViewLevelEnum viewLevelEnum;
@@ -63,7 +77,8 @@ public class ServerInternalException extends BaseRuntimeException {
         }
 
         public Builder message(String messagePattern, Object... args) {
-            message = MessageFormatter.format(messagePattern, args).getMessage();
+            this.messagePattern = messagePattern;
+            messageArgs = args;
             return this;
         }
 
@@ -77,13 +92,21 @@ public class ServerInternalException extends BaseRuntimeException {
             return this;
         }
 
+        /**
+         * 不记录堆栈, 适用于预期内的业务失败以及作为常量单例的异常
+         */
+        public Builder stackless() {
+            stackless = true;
+            return this;
+        }
+
         public Builder logLevelEnum(LogLevelEnum val) {
             logLevelEnum = val;
             return this;
         }
 
         public Builder viewMessage(String messagePattern, Object... args) {
-            viewMessage = MessageFormatter.format(messagePattern, args).getMessage();
+            viewMessage = MessageTemplate.format(messagePattern, args);
             return this;
         }
 
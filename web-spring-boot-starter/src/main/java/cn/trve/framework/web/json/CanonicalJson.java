@@ -0,0 +1,500 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import com.fasterxml.jackson.databind.util.RawValue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+
+/**
+ * <pre>
+ * <b>规范化JSON</b>
+ * <b>Description:</b>
+ * 相同内容总是得到相同的输出, 可用于去重、缓存键与ETag:
+ *   对象的字段按名称(UTF-16码元)排序, 与字段定义顺序、Map的填充顺序无关;
+ *   数字按数值规范化, 去掉末尾的0, 1、1.0、1.00输出相同, 指数过大或过小时使用科学计数法;
+ *   不输出空白, 字符串转义规则固定.
+ * POJO与Map按ObjectMapper的配置(日期格式、null过滤等)流式输出: 序列化时属性按名称排序、Map按键排序,
+ * 数字在生成器中规范化, 内存占用与嵌套层数相关, 与文档大小无关. 生成器校验每层字段名严格递增,
+ * 无法按名称排序的情况(@JsonPropertyOrder、@JsonAnyGetter、非字符串的Map键、内嵌JsonNode、原始值等)
+ * 放弃流式输出, 转为树后排序输出, 此时占用与文档大小成正比的内存. JsonNode直接按树输出.
+ * 摘要直接将规范化的字节写入MessageDigest, 不生成中间字符串; 写入OutputStream时先缓存规范化的字节,
+ * 以便转为树输出时不留下不完整的内容.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/22 16:40    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/22
+ */
+public final class CanonicalJson {
+
+    public static final String SHA_256 = "SHA-256";
+
+    /**
+     * 超出该范围的小数位数使用科学计数法, 避免极端指数展开成超长字符串
+     */
+    private static final int MAX_PLAIN_SCALE = 21;
+
+    /**
+     * 不使用ObjectMapper的生成器配置, 保证输出不随配置变化
+     */
+    private static final JsonFactory FACTORY = JsonFactory.builder().build();
+
+    private final ObjectMapper mapper;
+    /**
+     * 属性与Map键排序的副本, 用于流式输出
+     */
+    private final ObjectWriter sortedWriter;
+
+    /**
+     * @param mapper 序列化POJO时使用的ObjectMapper
+     */
+    public CanonicalJson(ObjectMapper mapper) {
+        this.mapper = mapper;
+        ObjectMapper sorted = mapper.copy();
+        sorted.setConfig(sorted.getSerializationConfig()
+                .with(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .without(MapperFeature.SORT_CREATOR_PROPERTIES_FIRST));
+        this.sortedWriter = sorted.writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .without(SerializationFeature.INDENT_OUTPUT, SerializationFeature.WRAP_ROOT_VALUE);
+    }
+
+    /**
+     * 规范化的json串
+     */
+    public String toString(Object value) {
+        return new String(toBytes(value), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 规范化的UTF-8字节
+     */
+    public byte[] toBytes(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        if (!stream(value, out)) {
+            out.reset();
+            writeTree(value, out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 写出规范化的UTF-8字节, 不关闭输出流
+     */
+    public void write(Object value, OutputStream out) {
+        try {
+            out.write(toBytes(value));
+        } catch (IOException e) {
+            throw new BaseRuntimeException("规范化json失败: {}", e, e.getMessage());
+        }
+    }
+
+    /**
+     * 规范化内容的摘要
+     *
+     * @param algorithm 摘要算法, 如 {@link #SHA_256}
+     */
+    public byte[] digest(Object value, String algorithm) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BaseRuntimeException("不支持的摘要算法: {}", e, algorithm);
+        }
+        OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
+        if (!stream(value, out)) {
+            digest.reset();
+            writeTree(value, out);
+        }
+        return digest.digest();
+    }
+
+    /**
+     * 规范化内容的SHA-256, 十六进制小写
+     */
+    public String sha256Hex(Object value) {
+        return HexFormat.of().formatHex(digest(value, SHA_256));
+    }
+
+    /**
+     * 基于规范化内容SHA-256的强ETag, 含双引号
+     */
+    public String etag(Object value) {
+        return '"' + sha256Hex(value) + '"';
+    }
+
+    /**
+     * 流式输出规范化的字节
+     *
+     * @return false表示无法按名称顺序流式输出, 已写出的内容需丢弃后转为树输出
+     */
+    private boolean stream(Object value, OutputStream out) {
+        if (value == null || value instanceof JsonNode) {
+            writeTree(value, out);
+            return true;
+        }
+        try (JsonGenerator generator = new CanonicalGenerator(createGenerator(out))) {
+            sortedWriter.writeValue(generator, value);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            //包括排序失败(如不可比较的Map键), 转为树输出时若仍失败再抛出
+            return false;
+        }
+    }
+
+    private void writeTree(Object value, OutputStream out) {
+        try (JsonGenerator generator = createGenerator(out)) {
+            write(toTree(value), generator);
+        } catch (IOException e) {
+            throw new BaseRuntimeException("规范化json失败: {}", e, e.getMessage());
+        }
+    }
+
+    private static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    private JsonNode toTree(Object value) throws IOException {
+        if (value == null) {
+            return NullNode.getInstance();
+        }
+        if (value instanceof JsonNode node) {
+            return node;
+        }
+        if (value instanceof RawValue raw) {
+            //@JsonRawValue等原始json转为树后同样规范化
+            Object text = raw.rawValue();
+            return mapper.readTree(text instanceof SerializableString string ? string.getValue() : String.valueOf(text));
+        }
+        JsonNode tree = mapper.valueToTree(value);
+        if (tree instanceof POJONode pojo && pojo.getPojo() == value) {
+            throw new BaseRuntimeException("无法规范化: {}", value.getClass().getName());
+        }
+        return tree == null ? NullNode.getInstance() : tree;
+    }
+
+    private void write(JsonNode node, JsonGenerator generator) throws IOException {
+        switch (node.getNodeType()) {
+            case OBJECT -> {
+                String[] names = new String[node.size()];
+                int i = 0;
+                for (Iterator<String> it = node.fieldNames(); it.hasNext(); ) {
+                    names[i++] = it.next();
+                }
+                Arrays.sort(names);
+                generator.writeStartObject();
+                for (String name : names) {
+                    generator.writeFieldName(name);
+                    write(node.get(name), generator);
+                }
+                generator.writeEndObject();
+            }
+            case ARRAY -> {
+                generator.writeStartArray();
+                for (JsonNode element : node) {
+                    write(element, generator);
+                }
+                generator.writeEndArray();
+            }
+            case NUMBER -> writeNumber(node, generator);
+            case STRING -> generator.writeString(node.textValue());
+            case BOOLEAN -> generator.writeBoolean(node.booleanValue());
+            case BINARY -> generator.writeBinary(node.binaryValue());
+            case POJO -> write(toTree(((POJONode) node).getPojo()), generator);
+            default -> generator.writeNull();
+        }
+    }
+
+    private static void writeNumber(JsonNode node, JsonGenerator generator) throws IOException {
+        if (node.isIntegralNumber()) {
+            if (node.canConvertToLong()) {
+                generator.writeNumber(node.longValue());
+            } else {
+                writeInteger(node.bigIntegerValue(), generator);
+            }
+        } else if (node.isFloat()) {
+            writeFloat(node.floatValue(), generator);
+        } else if (node.isDouble()) {
+            writeDouble(node.doubleValue(), generator);
+        } else {
+            generator.writeNumber(normalize(node.decimalValue()));
+        }
+    }
+
+    private static void writeInteger(BigInteger value, JsonGenerator generator) throws IOException {
+        generator.writeNumber(value.bitLength() < Long.SIZE
+                ? Long.toString(value.longValue()) : normalize(new BigDecimal(value)));
+    }
+
+    private static void writeDouble(double value, JsonGenerator generator) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            generator.writeString(Double.toString(value));
+            return;
+        }
+        generator.writeNumber(normalize(BigDecimal.valueOf(value)));
+    }
+
+    private static void writeFloat(float value, JsonGenerator generator) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            generator.writeString(Double.toString(value));
+            return;
+        }
+        //float按其自身的最短表示转换, 避免扩展为double后出现多余的位数
+        generator.writeNumber(normalize(new BigDecimal(Float.toString(value))));
+    }
+
+    /**
+     * 数值相同的小数得到相同的文本
+     */
+    static String normalize(BigDecimal value) {
+        if (value.signum() == 0) {
+            return "0";
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        int scale = stripped.scale();
+        if (scale >= -MAX_PLAIN_SCALE && scale <= MAX_PLAIN_SCALE) {
+            return stripped.toPlainString();
+        }
+        return stripped.toString();
+    }
+
+    /**
+     * 流式输出时规范化数字, 并校验每层对象的字段名严格递增; 无法保证规范输出时抛出 {@link NotCanonicalException}
+     */
+    private static final class CanonicalGenerator extends JsonGeneratorDelegate {
+
+        /**
+         * 各层对象中上一个字段名, 数组层为null占位
+         */
+        private String[] lastNames = new String[8];
+        private int depth;
+
+        private CanonicalGenerator(JsonGenerator delegate) {
+            super(delegate, false);
+        }
+
+        //<editor-fold desc="字段顺序">
+        @Override
+        public void writeStartObject() throws IOException {
+            push();
+            super.writeStartObject();
+        }
+
+        @Override
+        public void writeStartObject(Object forValue) throws IOException {
+            push();
+            super.writeStartObject(forValue);
+        }
+
+        @Override
+        public void writeStartObject(Object forValue, int size) throws IOException {
+            push();
+            super.writeStartObject(forValue, size);
+        }
+
+        @Override
+        public void writeEndObject() throws IOException {
+            depth--;
+            super.writeEndObject();
+        }
+
+        @Override
+        public void writeFieldName(String name) throws IOException {
+            checkOrder(name);
+            super.writeFieldName(name);
+        }
+
+        @Override
+        public void writeFieldName(SerializableString name) throws IOException {
+            checkOrder(name.getValue());
+            super.writeFieldName(name);
+        }
+
+        @Override
+        public void writeFieldId(long id) throws IOException {
+            writeFieldName(Long.toString(id));
+        }
+
+        private void push() {
+            if (depth == lastNames.length) {
+                lastNames = Arrays.copyOf(lastNames, depth * 2);
+            }
+            lastNames[depth++] = null;
+        }
+
+        private void checkOrder(String name) throws NotCanonicalException {
+            String last = lastNames[depth - 1];
+            if (last != null && last.compareTo(name) >= 0) {
+                throw new NotCanonicalException();
+            }
+            lastNames[depth - 1] = name;
+        }
+        //</editor-fold>
+
+        //<editor-fold desc="数字, 整数(int/long/short)原样输出">
+        @Override
+        public void writeNumber(BigInteger v) throws IOException {
+            if (v == null) {
+                writeNull();
+                return;
+            }
+            writeInteger(v, delegate);
+        }
+
+        @Override
+        public void writeNumber(double v) throws IOException {
+            writeDouble(v, delegate);
+        }
+
+        @Override
+        public void writeNumber(float v) throws IOException {
+            writeFloat(v, delegate);
+        }
+
+        @Override
+        public void writeNumber(BigDecimal v) throws IOException {
+            if (v == null) {
+                writeNull();
+                return;
+            }
+            delegate.writeNumber(normalize(v));
+        }
+
+        @Override
+        public void writeNumber(String encodedValue) throws IOException {
+            if (encodedValue == null) {
+                writeNull();
+                return;
+            }
+            try {
+                delegate.writeNumber(normalize(new BigDecimal(encodedValue)));
+            } catch (NumberFormatException e) {
+                throw new NotCanonicalException();
+            }
+        }
+
+        @Override
+        public void writeNumber(char[] encodedValueBuffer, int offset, int len) throws IOException {
+            writeNumber(new String(encodedValueBuffer, offset, len));
+        }
+
+        @Override
+        public void writeArray(int[] array, int offset, int length) throws IOException {
+            writeStartArray(array, length);
+            for (int i = offset, end = offset + length; i < end; i++) {
+                writeNumber(array[i]);
+            }
+            writeEndArray();
+        }
+
+        @Override
+        public void writeArray(long[] array, int offset, int length) throws IOException {
+            writeStartArray(array, length);
+            for (int i = offset, end = offset + length; i < end; i++) {
+                writeNumber(array[i]);
+            }
+            writeEndArray();
+        }
+
+        @Override
+        public void writeArray(double[] array, int offset, int length) throws IOException {
+            writeStartArray(array, length);
+            for (int i = offset, end = offset + length; i < end; i++) {
+                writeNumber(array[i]);
+            }
+            writeEndArray();
+        }
+        //</editor-fold>
+
+        //<editor-fold desc="无法规范化的写入">
+        @Override
+        public void writeRaw(String text) throws IOException {
+            throw new NotCanonicalException();
+        }
+
+        @Override
+        public void writeRaw(String text, int offset, int len) throws IOException {
+            throw new NotCanonicalException();
+        }
+
+        @Override
+        public void writeRaw(SerializableString raw) throws IOException {
+            throw new NotCanonicalException();
+        }
+
+        @Override
+        public void writeRaw(char[] text, int offset, int len) throws IOException {
+            throw new NotCanonicalException();
+        }
+
+        @Override
+        public void writeRaw(char c) throws IOException {
+            throw new NotCanonicalException();
+        }
+
+        @Override
+        public void writeRawValue(String text) throws IOException {
+            throw new NotCanonicalException();
+        }
+
+        @Override
+        public void writeRawValue(String text, int offset, int len) throws IOException {
+            throw new NotCanonicalException();
+        }
+
+        @Override
+        public void writeRawValue(char[] text, int offset, int len) throws IOException {
+            throw new NotCanonicalException();
+        }
+
+        @Override
+        public void writeEmbeddedObject(Object object) throws IOException {
+            throw new NotCanonicalException();
+        }
+        //</editor-fold>
+    }
+
+    /**
+     * 流式输出无法保证规范时中止, 不是JsonMappingException, Jackson不会包装; 不填充栈
+     */
+    private static final class NotCanonicalException extends IOException {
+
+        private NotCanonicalException() {
+            super("无法流式输出规范化json");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.constant.dict.DatePattern;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * <b>常用日期时间格式的手写编解码</b>
+ * <b>Description:</b>
+ * 对 yyyy-MM-dd HH:mm:ss 及其毫秒格式直接按位置读写字符, 不经过 {@link java.time.format.DateTimeFormatter}.
+ * 不在这几种格式内或内容不符合格式时由调用方回退到DateTimeFormatter.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 9:20    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public enum DateTimeLayout {
+    /**
+     * yyyy-MM-dd HH:mm:ss
+     */
+    NORM_DATETIME(DatePattern.NORM_DATETIME_PATTERN, (char) 0),
+    /**
+     * yyyy-MM-dd HH:mm:ss.SSS
+     */
+    NORM_DATETIME_MS(DatePattern.NORM_DATETIME_MS_PATTERN, '.'),
+    /**
+     * yyyy-MM-dd HH:mm:ss,SSS
+     */
+    ISO8601(DatePattern.ISO8601_PATTERN, ','),
+    ;
+
+    private static final int SECONDS_LENGTH = 19;
+    private static final int MILLIS_LENGTH = 23;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    private final String pattern;
+    private final char fractionSeparator;
+    private final int length;
+
+    DateTimeLayout(String pattern, char fractionSeparator) {
+        this.pattern = pattern;
+        this.fractionSeparator = fractionSeparator;
+        this.length = fractionSeparator == 0 ? SECONDS_LENGTH : MILLIS_LENGTH;
+    }
+
+    /**
+     * 查找格式对应的布局
+     *
+     * @param pattern 格式
+     * @return 布局, 不支持的格式返回null
+     */
+    public static DateTimeLayout of(String pattern) {
+        for (DateTimeLayout layout : values()) {
+            if (layout.pattern.equals(pattern)) {
+                return layout;
+            }
+        }
+        return null;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 格式化后的长度
+     *
+     * @return 长度
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 格式化
+     *
+     * @param dateTime 时间
+     * @param buffer   长度不小于 {@link #length()} 的缓冲区
+     * @return 写入的长度, 年份超出4位时返回-1
+     */
+    public int format(LocalDateTime dateTime, char[] buffer) {
+        int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        put4(buffer, 0, year);
+        buffer[4] = '-';
+        put2(buffer, 5, dateTime.getMonthValue());
+        buffer[7] = '-';
+        put2(buffer, 8, dateTime.getDayOfMonth());
+        buffer[10] = ' ';
+        put2(buffer, 11, dateTime.getHour());
+        buffer[13] = ':';
+        put2(buffer, 14, dateTime.getMinute());
+        buffer[16] = ':';
+        put2(buffer, 17, dateTime.getSecond());
+        if (fractionSeparator != 0) {
+            buffer[19] = fractionSeparator;
+            int millis = dateTime.getNano() / NANOS_PER_MILLI;
+            buffer[20] = (char) ('0' + millis / 100);
+            put2(buffer, 21, millis % 100);
+        }
+        return length;
+    }
+
+    /**
+     * 解析
+     *
+     * @param text 文本
+     * @return 时间, 不符合格式时返回null
+     */
+    public LocalDateTime parse(String text) {
+        if (text.length() != length || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != ' '
+                || text.charAt(13) != ':' || text.charAt(16) != ':'
+                || (fractionSeparator != 0 && text.charAt(19) != fractionSeparator)) {
+            return null;
+        }
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day = digits(text, 8, 2);
+        int hour = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        int second = digits(text, 17, 2);
+        int millis = fractionSeparator == 0 ? 0 : digits(text, 20, 3);
+        if ((year | month | day | hour | minute | second | millis) < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, millis * NANOS_PER_MILLI);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int digits(String text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void put2(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static void put4(char[] buffer, int offset, int value) {
+        put2(buffer, offset, value / 100);
+        put2(buffer, offset + 2, value % 100);
+    }
+}
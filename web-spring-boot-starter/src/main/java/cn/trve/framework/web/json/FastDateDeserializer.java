@@ -0,0 +1,66 @@
+package cn.trve.framework.web.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DateDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * <pre>
+ * <b>Date反序列化</b>
+ * <b>Description:</b>
+ * 常用格式使用 {@link DateTimeLayout} 直接按位置解析, 时间戳、其他格式以及属性上有 {@link JsonFormat} 时
+ * 交给Jackson的默认实现.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 10:35    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public class FastDateDeserializer extends StdDeserializer<Date> implements ContextualDeserializer {
+
+    private final DateTimeLayout layout;
+
+    public FastDateDeserializer(String pattern) {
+        super(Date.class);
+        this.layout = DateTimeLayout.of(pattern);
+    }
+
+    @Override
+    public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (layout != null && p.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDateTime value = layout.parse(p.getText().trim());
+            if (value != null) {
+                ZoneId zone = ctxt.getConfig().hasExplicitTimeZone()
+                        ? ctxt.getTimeZone().toZoneId() : ZoneId.systemDefault();
+                return Date.from(value.atZone(zone).toInstant());
+            }
+        }
+        return DateDeserializers.DateDeserializer.instance.deserialize(p, ctxt);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (format == null || FastLocalDateTimeSerializer.isDefault(format)) {
+            return this;
+        }
+        return DateDeserializers.DateDeserializer.instance.createContextual(ctxt, property);
+    }
+}
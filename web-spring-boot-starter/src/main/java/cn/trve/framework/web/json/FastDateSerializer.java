@@ -0,0 +1,96 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.constant.dict.DatePattern;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+
+/**
+ * <pre>
+ * <b>Date序列化</b>
+ * <b>Description:</b>
+ * 替代ObjectMapper上设置的SimpleDateFormat(Jackson每次使用都要克隆), 使用不可变的 {@link DateTimeFormatter},
+ * 常用格式直接写字符. 时区与原来一致: 未显式设置ObjectMapper时区时使用系统默认时区.
+ * 属性上的 {@link JsonFormat} 只指定pattern时仍使用该实现, 时区与Jackson的 {@link DateSerializer} 一致, 取ObjectMapper的时区;
+ * 指定了locale、timezone或shape时交给Jackson的默认实现.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 10:20    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public class FastDateSerializer extends StdSerializer<Date> implements ContextualSerializer {
+
+    private final String pattern;
+    private final DateTimeFormatter formatter;
+    private final DateTimeLayout layout;
+
+    /**
+     * 是否总是使用ObjectMapper的时区, {@link JsonFormat} 指定的pattern与Jackson一致, 不使用系统默认时区
+     */
+    private final boolean mapperZone;
+
+    public FastDateSerializer(String pattern) {
+        this(pattern, false);
+    }
+
+    private FastDateSerializer(String pattern, boolean mapperZone) {
+        super(Date.class);
+        this.pattern = pattern;
+        this.formatter = DatePattern.Formatters.of(pattern);
+        this.layout = DateTimeLayout.of(pattern);
+        this.mapperZone = mapperZone;
+    }
+
+    @Override
+    public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!mapperZone && value instanceof java.sql.Date) {
+            //保持与Jackson默认的java.sql.Date处理一致
+            gen.writeString(value.toString());
+            return;
+        }
+        ZoneId zone = mapperZone || provider.getConfig().hasExplicitTimeZone()
+                ? provider.getTimeZone().toZoneId() : ZoneId.systemDefault();
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(value.getTime()), zone);
+        if (layout != null) {
+            char[] buffer = new char[layout.length()];
+            int length = layout.format(dateTime, buffer);
+            if (length > 0) {
+                gen.writeString(buffer, 0, length);
+                return;
+            }
+        }
+        gen.writeString(formatter.format(dateTime));
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(prov, property, handledType());
+        if (format == null || FastLocalDateTimeSerializer.isDefault(format)) {
+            return this;
+        }
+        if (FastLocalDateTimeSerializer.isPatternOnly(format)) {
+            return mapperZone && pattern.equals(format.getPattern())
+                    ? this : new FastDateSerializer(format.getPattern(), true);
+        }
+        return DateSerializer.instance.createContextual(prov, property);
+    }
+}
@@ -0,0 +1,69 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.constant.dict.DatePattern;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * <b>LocalDateTime反序列化</b>
+ * <b>Description:</b>
+ * 常用格式使用 {@link DateTimeLayout} 直接按位置解析, 解析不了的交给jsr310的默认实现处理.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 10:05    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public class FastLocalDateTimeDeserializer extends StdDeserializer<LocalDateTime> implements ContextualDeserializer {
+
+    private final String pattern;
+    private final DateTimeLayout layout;
+    private final LocalDateTimeDeserializer fallback;
+
+    public FastLocalDateTimeDeserializer(String pattern) {
+        super(LocalDateTime.class);
+        this.pattern = pattern;
+        this.layout = DateTimeLayout.of(pattern);
+        this.fallback = new LocalDateTimeDeserializer(DatePattern.Formatters.of(pattern));
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (layout != null && p.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDateTime value = layout.parse(p.getText().trim());
+            if (value != null) {
+                return value;
+            }
+        }
+        return fallback.deserialize(p, ctxt);
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(ctxt, property, handledType());
+        if (format == null || FastLocalDateTimeSerializer.isDefault(format)) {
+            return this;
+        }
+        if (FastLocalDateTimeSerializer.isPatternOnly(format)) {
+            return pattern.equals(format.getPattern()) ? this : new FastLocalDateTimeDeserializer(format.getPattern());
+        }
+        return fallback.createContextual(ctxt, property);
+    }
+}
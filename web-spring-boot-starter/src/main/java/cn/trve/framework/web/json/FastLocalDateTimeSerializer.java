@@ -0,0 +1,82 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.constant.dict.DatePattern;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * <pre>
+ * <b>LocalDateTime序列化</b>
+ * <b>Description:</b>
+ * 常用格式使用 {@link DateTimeLayout} 直接写字符, 其他格式使用注册表中缓存的 {@link DateTimeFormatter}.
+ * 属性上的 {@link JsonFormat} 只指定了格式时复用本类, 其余情况交给jsr310的默认实现.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 9:50    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public class FastLocalDateTimeSerializer extends StdSerializer<LocalDateTime> implements ContextualSerializer {
+
+    private final String pattern;
+    private final DateTimeFormatter formatter;
+    private final DateTimeLayout layout;
+
+    public FastLocalDateTimeSerializer(String pattern) {
+        super(LocalDateTime.class);
+        this.pattern = pattern;
+        this.formatter = DatePattern.Formatters.of(pattern);
+        this.layout = DateTimeLayout.of(pattern);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (layout != null) {
+            char[] buffer = new char[layout.length()];
+            int length = layout.format(value, buffer);
+            if (length > 0) {
+                gen.writeString(buffer, 0, length);
+                return;
+            }
+        }
+        gen.writeString(formatter.format(value));
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
+        JsonFormat.Value format = findFormatOverrides(prov, property, handledType());
+        if (format == null || isDefault(format)) {
+            return this;
+        }
+        if (isPatternOnly(format)) {
+            return pattern.equals(format.getPattern()) ? this : new FastLocalDateTimeSerializer(format.getPattern());
+        }
+        return LocalDateTimeSerializer.INSTANCE.createContextual(prov, property);
+    }
+
+    static boolean isDefault(JsonFormat.Value format) {
+        return !format.hasPattern() && !format.hasLocale() && !format.hasTimeZone()
+                && format.getShape() == JsonFormat.Shape.ANY;
+    }
+
+    static boolean isPatternOnly(JsonFormat.Value format) {
+        return format.hasPattern() && !format.hasLocale() && !format.hasTimeZone()
+                && (format.getShape() == JsonFormat.Shape.ANY || format.getShape() == JsonFormat.Shape.STRING);
+    }
+}
@@ -0,0 +1,197 @@
+package cn.trve.framework.web.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * <b>ObjectReader/ObjectWriter缓存</b>
+ * <b>Description:</b>
+ * 按类型缓存预先构建的 {@link ObjectReader}、{@link ObjectWriter}, 避免每次调用都经过TypeFactory构建类型、
+ * 查找根序列化器. ObjectReader/ObjectWriter不可变且线程安全, 可直接共享.
+ * 缓存有上限, 超过后不再缓存新类型, 防止动态生成的类型(如匿名TypeReference的泛型组合)无限增长.
+ * ObjectReader/ObjectWriter创建时固定了mapper当时的配置. mapper的配置、序列化工厂和反序列化上下文都是不可变对象,
+ * 修改配置或注册模块会替换为新实例, 每次访问时比较这几个实例, 发生变化即整体重建缓存, 之后的修改同样生效.
+ * 直接修改共享的可变状态(如addMixIn)不会替换实例, 需调用 {@link #reset()}.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 11:10    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public class JacksonCodecs {
+
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    private final ObjectMapper mapper;
+    private volatile Cache cache;
+
+    public JacksonCodecs(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.cache = new Cache(mapper);
+    }
+
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * 丢弃所有缓存, 下次访问时按mapper当前的配置重建
+     */
+    public void reset() {
+        cache = new Cache(mapper);
+    }
+
+    /**
+     * 读取任意类型, type可以是Class、ParameterizedType或JavaType
+     */
+    public ObjectReader reader(Type type) {
+        Map<Type, ObjectReader> readers = current().readers;
+        ObjectReader reader = readers.get(type);
+        if (reader == null) {
+            JavaType javaType = type instanceof JavaType ? (JavaType) type : mapper.getTypeFactory().constructType(type);
+            reader = mapper.readerFor(javaType);
+            if (readers.size() < MAX_CACHE_SIZE) {
+                readers.putIfAbsent(type, reader);
+            }
+        }
+        return reader;
+    }
+
+    public ObjectReader reader(TypeReference<?> type) {
+        return reader(type.getType());
+    }
+
+    /**
+     * 读取ArrayList&lt;type&gt;
+     */
+    public ObjectReader listReader(Class<?> elementType) {
+        Map<Class<?>, ObjectReader> listReaders = current().listReaders;
+        ObjectReader reader = listReaders.get(elementType);
+        if (reader == null) {
+            reader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(ArrayList.class, elementType));
+            if (listReaders.size() < MAX_CACHE_SIZE) {
+                listReaders.putIfAbsent(elementType, reader);
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * 读取HashMap&lt;String, Object&gt;
+     */
+    public ObjectReader mapReader() {
+        return current().mapReader;
+    }
+
+    /**
+     * 读取JsonNode
+     */
+    public ObjectReader treeReader() {
+        return current().treeReader;
+    }
+
+    /**
+     * 不指定根类型的writer
+     */
+    public ObjectWriter writer() {
+        return current().defaultWriter;
+    }
+
+    /**
+     * 美化输出的writer
+     */
+    public ObjectWriter prettyWriter() {
+        return current().prettyWriter;
+    }
+
+    /**
+     * 按值的运行时类型获取writer, 与 {@link ObjectMapper#writeValueAsString(Object)} 的类型选择一致
+     */
+    public ObjectWriter writerFor(Object value) {
+        Cache current = current();
+        if (value == null) {
+            return current.defaultWriter;
+        }
+        Class<?> type = value.getClass();
+        ObjectWriter writer = current.writers.get(type);
+        if (writer == null) {
+            writer = mapper.writerFor(type);
+            if (current.writers.size() < MAX_CACHE_SIZE) {
+                current.writers.putIfAbsent(type, writer);
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * mapper配置变化后重建缓存, 并发时可能重复重建, 结果相同
+     */
+    private Cache current() {
+        Cache current = cache;
+        if (!current.matches(mapper)) {
+            current = new Cache(mapper);
+            cache = current;
+        }
+        return current;
+    }
+
+    /**
+     * 按创建时mapper的配置构建的缓存
+     */
+    private static final class Cache {
+        private final SerializationConfig serializationConfig;
+        private final DeserializationConfig deserializationConfig;
+        private final SerializerFactory serializerFactory;
+        private final SerializerProvider serializerProvider;
+        private final DeserializationContext deserializationContext;
+        private final ObjectReader treeReader;
+        private final ObjectReader mapReader;
+        private final ObjectWriter defaultWriter;
+        private final ObjectWriter prettyWriter;
+        private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ObjectReader> listReaders = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+        private Cache(ObjectMapper mapper) {
+            this.serializationConfig = mapper.getSerializationConfig();
+            this.deserializationConfig = mapper.getDeserializationConfig();
+            this.serializerFactory = mapper.getSerializerFactory();
+            this.serializerProvider = mapper.getSerializerProvider();
+            this.deserializationContext = mapper.getDeserializationContext();
+            TypeFactory typeFactory = mapper.getTypeFactory();
+            this.treeReader = mapper.readerFor(JsonNode.class);
+            this.mapReader = mapper.readerFor(typeFactory.constructMapType(HashMap.class, String.class, Object.class));
+            this.defaultWriter = mapper.writer();
+            this.prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+        }
+
+        private boolean matches(ObjectMapper mapper) {
+            return serializationConfig == mapper.getSerializationConfig()
+                    && deserializationConfig == mapper.getDeserializationConfig()
+                    && serializerFactory == mapper.getSerializerFactory()
+                    && serializerProvider == mapper.getSerializerProvider()
+                    && deserializationContext == mapper.getDeserializationContext();
+        }
+    }
+}
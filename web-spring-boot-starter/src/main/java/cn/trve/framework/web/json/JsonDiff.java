@@ -0,0 +1,515 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * <b>JSON结构比较</b>
+ * <b>Description:</b>
+ * 同时遍历两个文档的token, 输出把源文档变为目标文档的JSON Patch(RFC 6902), 可直接交给 {@link JsonPatch} 执行.
+ *   对象: 字段顺序一致时逐个比较; 出现顺序不一致时, 只把该对象剩余的字段读成树按名称比较.
+ *   数组: {@link ArrayMode#LCS} 读入整个数组按最长公共子序列比较, 中间插入或删除元素时补丁最小,
+ *        超过 {@link Builder#maxLcsLength(int)} 时按下标比较;
+ *        {@link ArrayMode#INDEX} 流式按下标比较, 同一时刻只持有一对元素, 适合超大数组.
+ *   标量: 数字按数值比较, 1与1.0相等.
+ * {@link #equal} 不生成补丁, 遇到第一个差异立即停止.
+ * 配置不可变, 线程安全.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/23 10:10    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/23
+ */
+public final class JsonDiff {
+
+    private final JacksonCodecs codecs;
+    private final ArrayMode arrayMode;
+    private final int maxLcsLength;
+
+    private JsonDiff(Builder builder) {
+        this.codecs = builder.codecs;
+        this.arrayMode = builder.arrayMode;
+        this.maxLcsLength = builder.maxLcsLength;
+    }
+
+    public static Builder builder(JacksonCodecs codecs) {
+        return new Builder(codecs);
+    }
+
+    //<editor-fold desc="入口">
+
+    /**
+     * 比较两个json串
+     *
+     * @return 把source变为target的JSON Patch
+     */
+    public ArrayNode diff(String source, String target) {
+        try (JsonParser a = codecs.treeReader().createParser(source);
+             JsonParser b = codecs.treeReader().createParser(target)) {
+            return diff(a, b);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 比较两个json字节
+     *
+     * @return 把source变为target的JSON Patch
+     */
+    public ArrayNode diff(byte[] source, byte[] target) {
+        try (JsonParser a = codecs.treeReader().createParser(source);
+             JsonParser b = codecs.treeReader().createParser(target)) {
+            return diff(a, b);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 同时从两个parser读取并比较, 不关闭parser
+     *
+     * @return 把source变为target的JSON Patch
+     */
+    public ArrayNode diff(JsonParser source, JsonParser target) throws IOException {
+        State state = new State(false);
+        start(source, target);
+        diffValue(source, target, state);
+        return state.patch;
+    }
+
+    /**
+     * 比较两棵树
+     *
+     * @return 把source变为target的JSON Patch
+     */
+    public ArrayNode diff(JsonNode source, JsonNode target) {
+        State state = new State(false);
+        diffTree(source, target, state);
+        return state.patch;
+    }
+
+    /**
+     * 两个json串的内容是否相同, 遇到第一个差异即返回
+     */
+    public boolean equal(String a, String b) {
+        try (JsonParser pa = codecs.treeReader().createParser(a);
+             JsonParser pb = codecs.treeReader().createParser(b)) {
+            return equal(pa, pb);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 两个json字节的内容是否相同, 遇到第一个差异即返回
+     */
+    public boolean equal(byte[] a, byte[] b) {
+        try (JsonParser pa = codecs.treeReader().createParser(a);
+             JsonParser pb = codecs.treeReader().createParser(b)) {
+            return equal(pa, pb);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 同时从两个parser读取并比较, 遇到第一个差异即返回, 不关闭parser
+     */
+    public boolean equal(JsonParser a, JsonParser b) throws IOException {
+        State state = new State(true);
+        start(a, b);
+        diffValue(a, b, state);
+        return !state.stopped;
+    }
+
+    private static void start(JsonParser a, JsonParser b) throws IOException {
+        if (a.nextToken() == null || b.nextToken() == null) {
+            throw new BaseRuntimeException("json为空");
+        }
+    }
+
+    //</editor-fold>
+
+    //<editor-fold desc="流式比较">
+
+    /**
+     * 比较两个parser当前所在的值, 返回时两个parser都停在值的最后一个token上(提前停止时除外)
+     */
+    private void diffValue(JsonParser a, JsonParser b, State state) throws IOException {
+        JsonToken ta = a.currentToken();
+        JsonToken tb = b.currentToken();
+        if (ta == JsonToken.START_OBJECT && tb == JsonToken.START_OBJECT) {
+            diffObject(a, b, state);
+        } else if (ta == JsonToken.START_ARRAY && tb == JsonToken.START_ARRAY) {
+            if (arrayMode == ArrayMode.LCS && !state.stopAtFirst) {
+                diffArrayTree((ArrayNode) readTree(a), (ArrayNode) readTree(b), state);
+            } else {
+                diffArray(a, b, state);
+            }
+        } else if (!ta.isScalarValue() || !tb.isScalarValue() || !scalarEquals(a, b)) {
+            a.skipChildren();
+            state.replace(state.stopAtFirst ? null : readTree(b));
+        }
+    }
+
+    private void diffObject(JsonParser a, JsonParser b, State state) throws IOException {
+        while (!state.stopped) {
+            JsonToken ta = a.nextToken();
+            JsonToken tb = b.nextToken();
+            if (ta == JsonToken.END_OBJECT && tb == JsonToken.END_OBJECT) {
+                return;
+            }
+            if (ta == JsonToken.FIELD_NAME && tb == JsonToken.FIELD_NAME && a.currentName().equals(b.currentName())) {
+                int mark = state.push(a.currentName());
+                a.nextToken();
+                b.nextToken();
+                diffValue(a, b, state);
+                state.pop(mark);
+                continue;
+            }
+            //字段顺序不一致或一方已结束, 剩余字段按名称比较
+            diffMembers(readMembers(a), readMembers(b), state);
+            return;
+        }
+    }
+
+    /**
+     * 按下标比较, 同一时刻只持有一对元素
+     */
+    private void diffArray(JsonParser a, JsonParser b, State state) throws IOException {
+        int index = 0;
+        while (!state.stopped) {
+            JsonToken ta = a.nextToken();
+            JsonToken tb = b.nextToken();
+            if (ta == JsonToken.END_ARRAY && tb == JsonToken.END_ARRAY) {
+                return;
+            }
+            if (ta == JsonToken.END_ARRAY) {
+                //目标更长, 依次追加
+                int mark = state.push("-");
+                do {
+                    state.add(state.stopAtFirst ? null : readTree(b));
+                } while (!state.stopped && b.nextToken() != JsonToken.END_ARRAY);
+                state.pop(mark);
+                return;
+            }
+            if (tb == JsonToken.END_ARRAY) {
+                //源更长, 多余元素都在同一下标上依次删除
+                int mark = state.push(index);
+                do {
+                    a.skipChildren();
+                    state.remove();
+                } while (!state.stopped && a.nextToken() != JsonToken.END_ARRAY);
+                state.pop(mark);
+                return;
+            }
+            int mark = state.push(index++);
+            diffValue(a, b, state);
+            state.pop(mark);
+        }
+    }
+
+    private Map<String, JsonNode> readMembers(JsonParser parser) throws IOException {
+        Map<String, JsonNode> members = new LinkedHashMap<>();
+        JsonToken token = parser.currentToken();
+        while (token == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            members.put(name, readTree(parser));
+            token = parser.nextToken();
+        }
+        return members;
+    }
+
+    private JsonNode readTree(JsonParser parser) throws IOException {
+        return codecs.treeReader().readTree(parser);
+    }
+
+    private static boolean scalarEquals(JsonParser a, JsonParser b) throws IOException {
+        JsonToken ta = a.currentToken();
+        JsonToken tb = b.currentToken();
+        if (ta.isNumeric() && tb.isNumeric()) {
+            if (ta == JsonToken.VALUE_NUMBER_INT && tb == JsonToken.VALUE_NUMBER_INT
+                    && a.getNumberType() != JsonParser.NumberType.BIG_INTEGER
+                    && b.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                return a.getLongValue() == b.getLongValue();
+            }
+            //NaN、Infinity没有对应的BigDecimal, 与树比较一致按double比较
+            if (a.isNaN() || b.isNaN()) {
+                return Double.compare(a.getDoubleValue(), b.getDoubleValue()) == 0;
+            }
+            return a.getDecimalValue().compareTo(b.getDecimalValue()) == 0;
+        }
+        if (ta != tb) {
+            return false;
+        }
+        return switch (ta) {
+            case VALUE_STRING -> a.getText().equals(b.getText());
+            case VALUE_EMBEDDED_OBJECT -> readEmbedded(a).equals(readEmbedded(b));
+            default -> true;
+        };
+    }
+
+    private static Object readEmbedded(JsonParser parser) throws IOException {
+        Object value = parser.getEmbeddedObject();
+        return value instanceof byte[] bytes ? ByteBuffer.wrap(bytes) : value;
+    }
+
+    //</editor-fold>
+
+    //<editor-fold desc="树比较">
+
+    private void diffTree(JsonNode a, JsonNode b, State state) {
+        if (a.isObject() && b.isObject()) {
+            diffMembers(fields(a), fields(b), state);
+        } else if (a.isArray() && b.isArray()) {
+            diffArrayTree((ArrayNode) a, (ArrayNode) b, state);
+        } else if (!a.equals(JsonPatch.VALUE_COMPARATOR, b)) {
+            state.replace(b);
+        }
+    }
+
+    private void diffMembers(Map<String, JsonNode> a, Map<String, JsonNode> b, State state) {
+        for (Map.Entry<String, JsonNode> entry : a.entrySet()) {
+            if (state.stopped) {
+                return;
+            }
+            int mark = state.push(entry.getKey());
+            JsonNode target = b.get(entry.getKey());
+            if (target == null) {
+                state.remove();
+            } else {
+                diffTree(entry.getValue(), target, state);
+            }
+            state.pop(mark);
+        }
+        for (Map.Entry<String, JsonNode> entry : b.entrySet()) {
+            if (state.stopped) {
+                return;
+            }
+            if (!a.containsKey(entry.getKey())) {
+                int mark = state.push(entry.getKey());
+                state.add(entry.getValue());
+                state.pop(mark);
+            }
+        }
+    }
+
+    private void diffArrayTree(ArrayNode a, ArrayNode b, State state) {
+        int prefix = 0;
+        int endA = a.size();
+        int endB = b.size();
+        //去掉相同的前缀与后缀, 只对中间部分计算LCS
+        while (prefix < endA && prefix < endB && a.get(prefix).equals(JsonPatch.VALUE_COMPARATOR, b.get(prefix))) {
+            prefix++;
+        }
+        while (endA > prefix && endB > prefix && a.get(endA - 1).equals(JsonPatch.VALUE_COMPARATOR, b.get(endB - 1))) {
+            endA--;
+            endB--;
+        }
+        int n = endA - prefix;
+        int m = endB - prefix;
+        if (n == 0 && m == 0) {
+            return;
+        }
+        if (arrayMode == ArrayMode.LCS && !state.stopAtFirst && n <= maxLcsLength && m <= maxLcsLength) {
+            diffLcs(a, b, prefix, n, m, state);
+            return;
+        }
+        int common = Math.min(n, m);
+        for (int i = 0; i < common && !state.stopped; i++) {
+            int mark = state.push(prefix + i);
+            diffTree(a.get(prefix + i), b.get(prefix + i), state);
+            state.pop(mark);
+        }
+        int position = prefix + common;
+        for (int i = common; i < n && !state.stopped; i++) {
+            int mark = state.push(position);
+            state.remove();
+            state.pop(mark);
+        }
+        for (int i = common; i < m && !state.stopped; i++) {
+            int mark = state.push(position++);
+            state.add(b.get(prefix + i));
+            state.pop(mark);
+        }
+    }
+
+    /**
+     * lcs[i][j]为a[i..]与b[j..]的最长公共子序列长度, 从前往后生成编辑操作;
+     * 替换一个元素不减少公共子序列时, 在原位置递归比较, 而不是先删除再插入
+     */
+    private void diffLcs(ArrayNode a, ArrayNode b, int offset, int n, int m, State state) {
+        int[][] lcs = new int[n + 1][m + 1];
+        for (int i = n - 1; i >= 0; i--) {
+            for (int j = m - 1; j >= 0; j--) {
+                lcs[i][j] = a.get(offset + i).equals(JsonPatch.VALUE_COMPARATOR, b.get(offset + j))
+                        ? lcs[i + 1][j + 1] + 1 : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+            }
+        }
+        int i = 0;
+        int j = 0;
+        int position = offset;
+        while ((i < n || j < m) && !state.stopped) {
+            int mark = state.push(position);
+            if (i < n && j < m && a.get(offset + i).equals(JsonPatch.VALUE_COMPARATOR, b.get(offset + j))) {
+                i++;
+                j++;
+                position++;
+            } else if (i < n && j < m && lcs[i + 1][j + 1] == lcs[i][j]) {
+                diffTree(a.get(offset + i), b.get(offset + j), state);
+                i++;
+                j++;
+                position++;
+            } else if (j < m && (i == n || lcs[i][j + 1] >= lcs[i + 1][j])) {
+                state.add(b.get(offset + j));
+                j++;
+                position++;
+            } else {
+                state.remove();
+                i++;
+            }
+            state.pop(mark);
+        }
+    }
+
+    private static Map<String, JsonNode> fields(JsonNode node) {
+        Map<String, JsonNode> fields = new LinkedHashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = it.next();
+            fields.put(field.getKey(), field.getValue());
+        }
+        return fields;
+    }
+
+    //</editor-fold>
+
+    /**
+     * 当前路径与输出的补丁
+     */
+    private static final class State {
+
+        private final boolean stopAtFirst;
+        private final StringBuilder path = new StringBuilder();
+        private final ArrayNode patch = JsonNodeFactory.instance.arrayNode();
+        private boolean stopped;
+
+        private State(boolean stopAtFirst) {
+            this.stopAtFirst = stopAtFirst;
+        }
+
+        /**
+         * @return 压入前的路径长度, 用于 {@link #pop(int)}
+         */
+        private int push(String name) {
+            int mark = path.length();
+            path.append('/');
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == '~') {
+                    path.append("~0");
+                } else if (c == '/') {
+                    path.append("~1");
+                } else {
+                    path.append(c);
+                }
+            }
+            return mark;
+        }
+
+        private int push(int index) {
+            int mark = path.length();
+            path.append('/').append(index);
+            return mark;
+        }
+
+        private void pop(int mark) {
+            path.setLength(mark);
+        }
+
+        private void add(JsonNode value) {
+            operation("add").set("value", value);
+        }
+
+        private void remove() {
+            operation("remove");
+        }
+
+        private void replace(JsonNode value) {
+            operation("replace").set("value", value);
+        }
+
+        private ObjectNode operation(String op) {
+            if (stopAtFirst) {
+                stopped = true;
+                return JsonNodeFactory.instance.objectNode();
+            }
+            ObjectNode operation = patch.addObject();
+            operation.put("op", op);
+            operation.put("path", path.toString());
+            return operation;
+        }
+    }
+
+    /**
+     * 数组比较方式
+     */
+    public enum ArrayMode {
+        /**
+         * 读入整个数组, 按最长公共子序列比较
+         */
+        LCS,
+        /**
+         * 流式按下标比较, 内存占用与数组长度无关
+         */
+        INDEX,
+    }
+
+    public static final class Builder {
+
+        private final JacksonCodecs codecs;
+        private ArrayMode arrayMode = ArrayMode.LCS;
+        private int maxLcsLength = 1000;
+
+        private Builder(JacksonCodecs codecs) {
+            this.codecs = codecs;
+        }
+
+        public Builder arrayMode(ArrayMode val) {
+            arrayMode = val;
+            return this;
+        }
+
+        /**
+         * LCS模式下, 去掉相同的首尾元素后, 任一数组剩余元素超过该值时按下标比较, 计算量为两者剩余长度之积
+         */
+        public Builder maxLcsLength(int val) {
+            if (val < 0) {
+                throw new IllegalArgumentException("maxLcsLength不能小于0: " + val);
+            }
+            maxLcsLength = val;
+            return this;
+        }
+
+        public JsonDiff build() {
+            return new JsonDiff(this);
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * <b>多字段一次提取</b>
+ * <b>Description:</b>
+ * 将多个路径编译为前缀树, 一次流式扫描取出所有字段, 全部取到后立即停止解析.
+ * 路径格式与 {@link JsonFieldLocator} 一致. 编译结果不可变, 可缓存为常量在多线程间复用:
+ *
+ * private static final JsonExtractor EXTRACTOR = JsonUtils.extractor()
+ *     .field("name", String.class)
+ *     .field("data.user.id", Long.class)
+ *     .field("/data/enabled", Boolean.class)
+ *     .build();
+ *
+ * JsonExtractor.Values values = EXTRACTOR.extract(json);
+ * String name = values.get(0);
+ * Long userId = values.get("data.user.id");
+ *
+ * String类型取标量的文本或结构的json串, JsonNode类型取子树, 其他类型按Jackson规则绑定.
+ * JSON null与缺失的字段均为null; 同名字段重复出现时取第一个.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 15:30    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public final class JsonExtractor {
+
+    /**
+     * 路径中数组下标的上限
+     */
+    private static final int MAX_INDEX = 4096;
+
+    private final JacksonCodecs codecs;
+    private final String[] paths;
+    private final Class<?>[] types;
+    private final Map<String, Integer> slots;
+    private final Node root;
+
+    private JsonExtractor(JacksonCodecs codecs, Map<String, Class<?>> fields) {
+        this.codecs = codecs;
+        this.paths = fields.keySet().toArray(new String[0]);
+        this.types = fields.values().toArray(new Class<?>[0]);
+        this.slots = new HashMap<>(paths.length * 2);
+        this.root = new Node();
+        for (int slot = 0; slot < paths.length; slot++) {
+            slots.put(paths[slot], slot);
+            JsonFieldLocator locator = JsonFieldLocator.compile(paths[slot]);
+            root.insert(locator.names(), locator.indexes(), slot);
+        }
+        //兼容根对象上以点分路径整体作为字段名的情况
+        for (int slot = 0; slot < paths.length; slot++) {
+            String literal = JsonFieldLocator.compile(paths[slot]).literal();
+            if (literal != null) {
+                root.insertLiteral(literal, slot);
+            }
+        }
+    }
+
+    public static Builder builder(JacksonCodecs codecs) {
+        return new Builder(codecs);
+    }
+
+    public int size() {
+        return paths.length;
+    }
+
+    public String getPath(int index) {
+        return paths[index];
+    }
+
+    /**
+     * 一次扫描提取所有字段
+     */
+    public Values extract(String json) {
+        Object[] values = new Object[paths.length];
+        if (json == null || json.isEmpty()) {
+            return new Values(this, values);
+        }
+        try (JsonParser parser = codecs.treeReader().createParser(json)) {
+            extract(parser, values);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+        return new Values(this, values);
+    }
+
+    /**
+     * 一次扫描提取所有字段
+     */
+    public Values extract(byte[] json) {
+        Object[] values = new Object[paths.length];
+        if (json == null || json.length == 0) {
+            return new Values(this, values);
+        }
+        try (JsonParser parser = codecs.treeReader().createParser(json)) {
+            extract(parser, values);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+        return new Values(this, values);
+    }
+
+    private void extract(JsonParser parser, Object[] values) throws IOException {
+        if (parser.nextToken() != null) {
+            walk(parser, root, new State(values));
+        }
+    }
+
+    //<editor-fold desc="流式扫描">
+
+    /**
+     * 处理parser当前所在的值; 正常返回时parser停在该值的最后一个token上, 全部取到时提前返回
+     */
+    private void walk(JsonParser parser, Node node, State state) throws IOException {
+        if (node.slot >= 0) {
+            if (state.filled[node.slot]) {
+                parser.skipChildren();
+            } else if (node.isLeaf()) {
+                state.fill(node.slot, read(parser, types[node.slot]));
+            } else {
+                //既是目标又有子路径, 读成子树后再从子树中取子路径
+                JsonNode tree = parser.currentToken() == JsonToken.VALUE_NULL
+                        ? NullNode.getInstance() : codecs.treeReader().readTree(parser);
+                state.fill(node.slot, convert(tree, types[node.slot]));
+                fill(tree, node, state);
+            }
+            return;
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT && node.fields != null) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Node child = node.fields.get(parser.currentName());
+                parser.nextToken();
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                walk(parser, child, state);
+                if (state.remaining == 0) {
+                    return;
+                }
+            }
+        } else if (token == JsonToken.START_ARRAY && node.elements != null) {
+            int index = 0;
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+                Node child = index < node.elements.length ? node.elements[index] : null;
+                index++;
+                if (child == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                walk(parser, child, state);
+                if (state.remaining == 0) {
+                    return;
+                }
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private void fill(JsonNode tree, Node node, State state) throws IOException {
+        if (node.fields != null && tree.isObject()) {
+            for (Map.Entry<String, Node> entry : node.fields.entrySet()) {
+                fillChild(tree.get(entry.getKey()), entry.getValue(), state);
+            }
+        } else if (node.elements != null && tree.isArray()) {
+            for (int i = 0; i < node.elements.length && i < tree.size(); i++) {
+                fillChild(tree.get(i), node.elements[i], state);
+            }
+        }
+    }
+
+    private void fillChild(JsonNode tree, Node child, State state) throws IOException {
+        if (tree == null || child == null) {
+            return;
+        }
+        if (child.slot >= 0 && !state.filled[child.slot]) {
+            state.fill(child.slot, convert(tree, types[child.slot]));
+        }
+        fill(tree, child, state);
+    }
+
+    private Object read(JsonParser parser, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (type == String.class) {
+            return token.isScalarValue() ? parser.getText() : codecs.treeReader().readTree(parser).toString();
+        }
+        if (type == JsonNode.class) {
+            return codecs.treeReader().readTree(parser);
+        }
+        return codecs.reader(type).readValue(parser);
+    }
+
+    private Object convert(JsonNode tree, Class<?> type) throws IOException {
+        if (tree.isNull() || tree.isMissingNode()) {
+            return null;
+        }
+        if (type == String.class) {
+            return tree.isValueNode() ? tree.asText() : tree.toString();
+        }
+        if (type == JsonNode.class) {
+            return tree;
+        }
+        return codecs.reader(type).readValue(tree);
+    }
+
+    //</editor-fold>
+
+    /**
+     * 前缀树节点, 同一段既可按字段名匹配对象, 也可按下标匹配数组
+     */
+    private static final class Node {
+
+        private int slot = -1;
+        private Map<String, Node> fields;
+        private Node[] elements;
+
+        private boolean isLeaf() {
+            return fields == null && elements == null;
+        }
+
+        private void insert(String[] names, int[] indexes, int slot) {
+            Node node = this;
+            for (int depth = 0; depth < names.length; depth++) {
+                node = node.child(names[depth], indexes[depth]);
+            }
+            if (node.slot >= 0) {
+                throw new IllegalArgumentException("路径指向同一字段: " + String.join("/", names));
+            }
+            node.slot = slot;
+        }
+
+        private void insertLiteral(String literal, int slot) {
+            if (fields == null) {
+                fields = new HashMap<>();
+            }
+            Node node = fields.computeIfAbsent(literal, name -> new Node());
+            if (node.slot < 0) {
+                node.slot = slot;
+            }
+        }
+
+        private Node child(String name, int index) {
+            if (fields == null) {
+                fields = new HashMap<>();
+            }
+            Node child = fields.computeIfAbsent(name, key -> new Node());
+            if (index >= 0) {
+                if (index >= MAX_INDEX) {
+                    throw new IllegalArgumentException("数组下标超过上限" + MAX_INDEX + ": " + index);
+                }
+                if (elements == null || elements.length <= index) {
+                    Node[] grown = new Node[index + 1];
+                    if (elements != null) {
+                        System.arraycopy(elements, 0, grown, 0, elements.length);
+                    }
+                    elements = grown;
+                }
+                elements[index] = child;
+            }
+            return child;
+        }
+    }
+
+    private static final class State {
+
+        private final Object[] values;
+        private final boolean[] filled;
+        private int remaining;
+
+        private State(Object[] values) {
+            this.values = values;
+            this.filled = new boolean[values.length];
+            this.remaining = values.length;
+        }
+
+        private void fill(int slot, Object value) {
+            values[slot] = value;
+            filled[slot] = true;
+            remaining--;
+        }
+    }
+
+    /**
+     * 提取结果, 下标与定义字段的顺序一致
+     */
+    public static final class Values {
+
+        private final JsonExtractor extractor;
+        private final Object[] values;
+
+        private Values(JsonExtractor extractor, Object[] values) {
+            this.extractor = extractor;
+            this.values = values;
+        }
+
+        public int size() {
+            return values.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <V> V get(int index) {
+            return (V) values[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        public <V> V get(String path) {
+            Integer slot = extractor.slots.get(path);
+            if (slot == null) {
+                throw new IllegalArgumentException("未定义的路径: " + path);
+            }
+            return (V) values[slot];
+        }
+
+        public Object[] toArray() {
+            return values.clone();
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>(values.length * 2);
+            for (int i = 0; i < values.length; i++) {
+                map.put(extractor.paths[i], values[i]);
+            }
+            return map;
+        }
+
+        @Override
+        public String toString() {
+            return toMap().toString();
+        }
+    }
+
+    public static final class Builder {
+
+        private final JacksonCodecs codecs;
+        private final Map<String, Class<?>> fields = new LinkedHashMap<>();
+
+        private Builder(JacksonCodecs codecs) {
+            this.codecs = codecs;
+        }
+
+        public Builder field(String path, Class<?> type) {
+            if (fields.putIfAbsent(path, type) != null) {
+                throw new IllegalArgumentException("重复的路径: " + path);
+            }
+            return this;
+        }
+
+        public JsonExtractor build() {
+            return new JsonExtractor(codecs, new LinkedHashMap<>(fields));
+        }
+    }
+}
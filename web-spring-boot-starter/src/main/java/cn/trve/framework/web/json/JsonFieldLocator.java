@@ -0,0 +1,195 @@
+package cn.trve.framework.web.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * <b>流式字段定位</b>
+ * <b>Description:</b>
+ * 基于 {@link JsonParser} 逐个扫描token定位字段, 跳过无关字段的子节点, 找到即停止, 不构建JsonNode树.
+ * 路径格式:
+ *   以 / 开头: JSON Pointer(RFC 6901), 如 /data/items/0/name
+ *   包含 . : 点分路径, 如 data.items.0.name, 纯数字段在数组中按下标匹配;
+ *           兼容旧用法, 根对象上与整个路径同名的字段同样会被匹配(先出现者优先)
+ *   其他: 根对象上的字段名
+ * 编译后的定位器不可变, 可在多线程间共享.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 14:00    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public final class JsonFieldLocator {
+
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final Map<String, JsonFieldLocator> CACHE = new ConcurrentHashMap<>();
+
+    private static final char POINTER_PREFIX = '/';
+    private static final char PATH_SEPARATOR = '.';
+
+    private final String path;
+    private final String[] names;
+    private final int[] indexes;
+    /**
+     * 点分路径在根对象上按整个路径匹配的字段名, 其他格式为null
+     */
+    private final String literal;
+
+    private JsonFieldLocator(String path, String[] names, int[] indexes, String literal) {
+        this.path = path;
+        this.names = names;
+        this.indexes = indexes;
+        this.literal = literal;
+    }
+
+    /**
+     * 编译路径, 结果会被缓存
+     */
+    public static JsonFieldLocator compile(String path) {
+        JsonFieldLocator locator = CACHE.get(path);
+        if (locator == null) {
+            locator = parse(path);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(path, locator);
+            }
+        }
+        return locator;
+    }
+
+    private static JsonFieldLocator parse(String path) {
+        List<String> segments = new ArrayList<>();
+        String literal = null;
+        if (!path.isEmpty() && path.charAt(0) == POINTER_PREFIX) {
+            for (JsonPointer pointer = JsonPointer.compile(path); !pointer.matches(); pointer = pointer.tail()) {
+                segments.add(pointer.getMatchingProperty());
+            }
+        } else if (path.indexOf(PATH_SEPARATOR) >= 0) {
+            int start = 0;
+            int end;
+            while ((end = path.indexOf(PATH_SEPARATOR, start)) >= 0) {
+                segments.add(path.substring(start, end));
+                start = end + 1;
+            }
+            segments.add(path.substring(start));
+            literal = path;
+        } else {
+            segments.add(path);
+        }
+        String[] names = segments.toArray(new String[0]);
+        int[] indexes = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            indexes[i] = parseIndex(names[i]);
+        }
+        return new JsonFieldLocator(path, names, indexes, literal);
+    }
+
+    private static int parseIndex(String segment) {
+        int length = segment.length();
+        //不接受前导0, 与JSON Pointer一致
+        if (length == 0 || length > 9 || (length > 1 && segment.charAt(0) == '0')) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    String[] names() {
+        return names;
+    }
+
+    int[] indexes() {
+        return indexes;
+    }
+
+    String literal() {
+        return literal;
+    }
+
+    /**
+     * 从parser当前位置开始定位. parser尚未读取任何token时会先读取第一个token.
+     *
+     * @return 找到时返回true, 此时parser的当前token为目标值的第一个token(标量值或START_OBJECT/START_ARRAY)
+     */
+    public boolean locate(JsonParser parser) throws IOException {
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        for (int depth = 0; depth < names.length; depth++) {
+            if (token == JsonToken.START_OBJECT) {
+                if (!locateField(parser, depth)) {
+                    return false;
+                }
+                if (depth == 0 && literal != null && literal.equals(parser.currentName())) {
+                    parser.nextToken();
+                    return true;
+                }
+            } else if (token == JsonToken.START_ARRAY) {
+                if (indexes[depth] < 0 || !locateElement(parser, indexes[depth])) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+            token = parser.currentToken();
+        }
+        return token != null;
+    }
+
+    /**
+     * 在对象内查找字段, 找到后parser停在字段值上; 根对象上的点分路径停在字段名上, 由调用方判断是否整路径匹配
+     */
+    private boolean locateField(JsonParser parser, int depth) throws IOException {
+        String name = names[depth];
+        boolean checkLiteral = depth == 0 && literal != null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String current = parser.currentName();
+            if (checkLiteral && literal.equals(current)) {
+                return true;
+            }
+            parser.nextToken();
+            if (name.equals(current)) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean locateElement(JsonParser parser, int index) throws IOException {
+        int i = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (i++ == index) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
@@ -0,0 +1,130 @@
+package cn.trve.framework.web.json;
+
+/**
+ * <pre>
+ * <b>JSON结构限制</b>
+ * <b>Description:</b>
+ * {@link JsonValidator} 校验时使用的上限, 防止超深嵌套、超长字符串、超大文档或字段过多的对象耗尽资源.
+ * 不可变, 可作为常量共享.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/22 14:10    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/22
+ */
+public final class JsonLimits {
+
+    /**
+     * 默认限制: 嵌套256层, 字符串1M个字符, 文档16MB, 单个对象1万个字段
+     */
+    public static final JsonLimits DEFAULT = builder().build();
+
+    /**
+     * 不限制, 只校验语法
+     */
+    public static final JsonLimits UNLIMITED = builder()
+            .maxDepth(Integer.MAX_VALUE)
+            .maxStringLength(Integer.MAX_VALUE)
+            .maxDocumentLength(Long.MAX_VALUE)
+            .maxObjectFields(Integer.MAX_VALUE)
+            .build();
+
+    private final int maxDepth;
+    private final int maxStringLength;
+    private final long maxDocumentLength;
+    private final int maxObjectFields;
+
+    private JsonLimits(Builder builder) {
+        this.maxDepth = builder.maxDepth;
+        this.maxStringLength = builder.maxStringLength;
+        this.maxDocumentLength = builder.maxDocumentLength;
+        this.maxObjectFields = builder.maxObjectFields;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 最大嵌套层数, 根对象或根数组为第1层
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * 字符串值与字段名的最大字符数
+     */
+    public int getMaxStringLength() {
+        return maxStringLength;
+    }
+
+    /**
+     * 文档最大长度, 字节输入按字节计, 字符串输入按字符计
+     */
+    public long getMaxDocumentLength() {
+        return maxDocumentLength;
+    }
+
+    /**
+     * 单个对象的最大字段数
+     */
+    public int getMaxObjectFields() {
+        return maxObjectFields;
+    }
+
+    @Override
+    public String toString() {
+        return "JsonLimits{maxDepth=" + maxDepth + ", maxStringLength=" + maxStringLength
+                + ", maxDocumentLength=" + maxDocumentLength + ", maxObjectFields=" + maxObjectFields + '}';
+    }
+
+    public static final class Builder {
+
+        private int maxDepth = 256;
+        private int maxStringLength = 1024 * 1024;
+        private long maxDocumentLength = 16L * 1024 * 1024;
+        private int maxObjectFields = 10_000;
+
+        private Builder() {
+        }
+
+        public Builder maxDepth(int val) {
+            maxDepth = positive(val, "maxDepth");
+            return this;
+        }
+
+        public Builder maxStringLength(int val) {
+            maxStringLength = positive(val, "maxStringLength");
+            return this;
+        }
+
+        public Builder maxDocumentLength(long val) {
+            if (val <= 0) {
+                throw new IllegalArgumentException("maxDocumentLength必须大于0: " + val);
+            }
+            maxDocumentLength = val;
+            return this;
+        }
+
+        public Builder maxObjectFields(int val) {
+            maxObjectFields = positive(val, "maxObjectFields");
+            return this;
+        }
+
+        public JsonLimits build() {
+            return new JsonLimits(this);
+        }
+
+        private static int positive(int val, String name) {
+            if (val <= 0) {
+                throw new IllegalArgumentException(name + "必须大于0: " + val);
+            }
+            return val;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ * <b>JSON Lines并行读取</b>
+ * <b>Description:</b>
+ * 按内存映射窗口读取JSON Lines文件, 可在换行处拆分, 供并行流在ForkJoinPool上多线程解析.
+ * 每个分片只处理起始于自身范围内的行, 拆分点总在换行之后, 因此行不会被截断或重复.
+ * 空行与行尾的\r会被忽略. {@link ObjectReader} 线程安全, 各分片共用; 行缓冲区每个分片各自持有.
+ * 映射窗口的释放依赖GC, 单行长度不能超过2G.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/21 9:40    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/21
+ */
+public class JsonLinesSpliterator<V> implements Spliterator<V> {
+
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final int WINDOW_SIZE = 32 * 1024 * 1024;
+    /**
+     * 剩余不足两倍该值时不再拆分
+     */
+    private static final long MIN_SPLIT_SIZE = 1024 * 1024;
+    private static final int SCAN_SIZE = 8 * 1024;
+
+    private final FileChannel channel;
+    private final ObjectReader reader;
+    private final boolean ordered;
+    private final long end;
+    private long position;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private byte[] line = new byte[1024];
+
+    /**
+     * @param channel 文件通道, 由调用方在读取结束后关闭
+     * @param reader  每行的反序列化reader
+     * @param ordered 是否保持文件中的顺序
+     */
+    public JsonLinesSpliterator(FileChannel channel, ObjectReader reader, boolean ordered) throws IOException {
+        this(channel, reader, ordered, 0, channel.size());
+    }
+
+    private JsonLinesSpliterator(FileChannel channel, ObjectReader reader, boolean ordered, long start, long end) {
+        this.channel = channel;
+        this.reader = reader;
+        this.ordered = ordered;
+        this.position = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super V> action) {
+        while (position < end) {
+            long lineStart = position;
+            try {
+                long lineEnd = findLineEnd(lineStart);
+                position = lineEnd < end ? lineEnd + 1 : end;
+                int length = copyLine(lineStart, lineEnd);
+                if (length == 0) {
+                    continue;
+                }
+                V value = reader.readValue(line, 0, length);
+                action.accept(value);
+                return true;
+            } catch (IOException e) {
+                throw new BaseRuntimeException("解析第{}字节处的记录失败: {}", e, lineStart, e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<V> trySplit() {
+        long remaining = end - position;
+        if (remaining < 2 * MIN_SPLIT_SIZE) {
+            return null;
+        }
+        long split;
+        try {
+            split = nextLineStart(position + remaining / 2);
+        } catch (IOException e) {
+            throw new BaseRuntimeException("读取文件失败: {}", e, e.getMessage());
+        }
+        if (split <= position || split >= end) {
+            return null;
+        }
+        JsonLinesSpliterator<V> prefix = new JsonLinesSpliterator<>(channel, reader, ordered, position, split);
+        position = split;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ordered ? ORDERED : 0;
+    }
+
+    /**
+     * 查找行尾换行符的位置, 没有换行符时返回范围末尾
+     */
+    private long findLineEnd(long from) throws IOException {
+        long size = WINDOW_SIZE;
+        if (window == null || from < windowStart || from >= windowStart + window.limit()) {
+            map(from, size);
+        }
+        while (true) {
+            int limit = window.limit();
+            for (int i = (int) (from - windowStart); i < limit; i++) {
+                if (window.get(i) == LINE_SEPARATOR) {
+                    return windowStart + i;
+                }
+            }
+            long windowEnd = windowStart + limit;
+            if (windowEnd >= end) {
+                return end;
+            }
+            //行跨越了窗口, 从行首重新映射更大的窗口
+            size = Math.max(size, (windowEnd - from) * 2);
+            if (size > Integer.MAX_VALUE) {
+                throw new BaseRuntimeException("第{}字节处的记录超过长度上限", from);
+            }
+            map(from, size);
+        }
+    }
+
+    private void map(long from, long size) throws IOException {
+        window = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(size, end - from));
+        windowStart = from;
+    }
+
+    /**
+     * 复制一行到行缓冲区, 去掉行尾的\r
+     *
+     * @return 行长度, 空白行返回0
+     */
+    private int copyLine(long lineStart, long lineEnd) {
+        int offset = (int) (lineStart - windowStart);
+        int length = (int) (lineEnd - lineStart);
+        if (length > 0 && window.get(offset + length - 1) == '\r') {
+            length--;
+        }
+        boolean blank = true;
+        for (int i = 0; i < length && blank; i++) {
+            blank = window.get(offset + i) <= ' ';
+        }
+        if (blank) {
+            return 0;
+        }
+        if (line.length < length) {
+            line = new byte[Math.max(length, line.length * 2)];
+        }
+        window.get(offset, line, 0, length);
+        return length;
+    }
+
+    /**
+     * 查找from及之后第一个换行符的下一个位置
+     */
+    private long nextLineStart(long from) throws IOException {
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+        long offset = from;
+        while (offset < end) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read <= 0) {
+                return end;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == LINE_SEPARATOR) {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return end;
+    }
+}
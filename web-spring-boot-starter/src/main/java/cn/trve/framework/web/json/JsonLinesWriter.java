@@ -0,0 +1,488 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.constant.dict.DatePattern;
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <pre>
+ * <b>JSON Lines追加写入</b>
+ * <b>Description:</b>
+ * 长期持有的JSON Lines(每行一个json)文件写入器, 替代每次打开、写入、关闭文件的 JsonUtils.toFile.
+ * 生产者线程只负责序列化并放入有界队列(队列满时阻塞), 由单独的写线程批量取出, 经过直接内存缓冲区写入FileChannel.
+ * 刷盘策略见 {@link FsyncPolicy}; 设置了文件大小上限时, 超过后将当前文件重命名为 文件名.yyyyMMddHHmmssSSS 并新建文件.
+ * 写线程是守护线程, 应用停止前应调用 {@link #close()} 以写出队列中剩余的数据.
+ * 提交与关闭互斥: close返回前提交成功的数据都会写出, 之后的提交抛出异常, 不会有数据在关闭后静默丢失.
+ *
+ * JsonLinesWriter writer = JsonLinesWriter.builder(Path.of("/data/audit.jsonl"))
+ *     .fsyncPolicy(JsonLinesWriter.FsyncPolicy.INTERVAL)
+ *     .maxFileSize(256 * 1024 * 1024)
+ *     .build();
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/20 17:10    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/20
+ */
+public class JsonLinesWriter implements Closeable {
+
+    private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(JsonLinesWriter.class);
+
+    private static final byte LINE_SEPARATOR = '\n';
+    private static final String ROTATE_PATTERN = DatePattern.Pure.PURE_DATETIME_MS_PATTERN;
+    private static final Object CLOSE = new Object();
+    /**
+     * 生产者等待时检查写线程是否存活的间隔
+     */
+    private static final long LIVENESS_CHECK_MILLIS = 100;
+
+    /**
+     * 刷盘策略
+     */
+    public enum FsyncPolicy {
+        /**
+         * 只写入操作系统缓存, 由操作系统决定何时落盘
+         */
+        NONE,
+        /**
+         * 按固定间隔落盘
+         */
+        INTERVAL,
+        /**
+         * 每批写入后落盘
+         */
+        BATCH,
+    }
+
+    private final Path path;
+    private final JacksonCodecs codecs;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final long maxFileSize;
+    private final int maxBatchSize;
+    private final BlockingQueue<Object> queue;
+    private final ByteBuffer buffer;
+    private final Thread thread;
+    /**
+     * 提交(读锁)与关闭(写锁)互斥, 保证CLOSE标记之后不会再有数据入队
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private FileChannel channel;
+    private long fileSize;
+    private long lastSyncNanos;
+    private boolean dirty;
+    private volatile boolean closed;
+    private volatile Throwable failure;
+
+    private JsonLinesWriter(Builder builder) {
+        this.path = builder.path;
+        this.codecs = builder.codecs;
+        this.fsyncPolicy = builder.fsyncPolicy;
+        this.fsyncIntervalNanos = builder.fsyncInterval.toNanos();
+        this.maxFileSize = builder.maxFileSize;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.queue = new ArrayBlockingQueue<>(builder.queueCapacity);
+        this.buffer = ByteBuffer.allocateDirect(builder.bufferSize);
+        try {
+            openChannel();
+        } catch (IOException e) {
+            throw new BaseRuntimeException("打开文件失败: {}", e, path);
+        }
+        this.lastSyncNanos = System.nanoTime();
+        this.thread = new Thread(this::run, "json-lines-writer-" + path.getFileName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public static Builder builder(Path path) {
+        return new Builder(path);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 序列化并追加一行, 队列满时阻塞
+     */
+    public void write(Object record) {
+        ensureOpen();
+        byte[] line;
+        try {
+            line = codecs.writerFor(record).writeValueAsBytes(record);
+        } catch (JsonProcessingException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+        submit(line);
+    }
+
+    /**
+     * 批量追加, 每个元素一行
+     */
+    public void writeAll(Iterable<?> records) {
+        for (Object record : records) {
+            write(record);
+        }
+    }
+
+    /**
+     * 等待此前提交的数据全部写入文件(按刷盘策略决定是否落盘)
+     */
+    public void flush() {
+        CompletableFuture<Void> barrier = new CompletableFuture<>();
+        submit(barrier);
+        try {
+            while (true) {
+                try {
+                    barrier.get(LIVENESS_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    //写线程异常退出后不会再完成屏障
+                    if (!thread.isAlive()) {
+                        barrier.completeExceptionally(new BaseRuntimeException("写线程已退出: {}", path));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseRuntimeException("等待写入被中断", e);
+        } catch (ExecutionException e) {
+            throw new BaseRuntimeException("写入失败: {}", e.getCause(), path);
+        }
+    }
+
+    /**
+     * 写出队列中剩余的数据并落盘后关闭, 可重复调用, 每次调用都等待写线程结束
+     */
+    @Override
+    public void close() {
+        Lock lock = closeLock.writeLock();
+        lock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+                //FileChannel可被中断关闭, 不能用interrupt通知写线程
+                enqueue(CLOSE);
+            }
+        } catch (BaseRuntimeException e) {
+            LOGGER.error("通知写线程关闭失败: {}", path, e);
+        } finally {
+            lock.unlock();
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Object element) {
+        Lock lock = closeLock.readLock();
+        lock.lock();
+        try {
+            ensureOpen();
+            enqueue(element);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new BaseRuntimeException("写入器已关闭: {}", path);
+        }
+        Throwable cause = failure;
+        if (cause != null) {
+            throw new BaseRuntimeException("写入失败: {}", cause, path);
+        }
+    }
+
+    private void enqueue(Object element) {
+        try {
+            while (!queue.offer(element, LIVENESS_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!thread.isAlive()) {
+                    throw new BaseRuntimeException("写线程已退出: {}", path);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseRuntimeException("等待写入被中断", e);
+        }
+    }
+
+    //<editor-fold desc="写线程">
+
+    private void run() {
+        try {
+            loop();
+        } finally {
+            failPending();
+        }
+    }
+
+    private void loop() {
+        List<Object> batch = new ArrayList<>(maxBatchSize);
+        boolean stopping = false;
+        while (!stopping) {
+            try {
+                Object first = fsyncPolicy == FsyncPolicy.INTERVAL
+                        ? queue.poll(fsyncIntervalNanos, TimeUnit.NANOSECONDS) : queue.take();
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, maxBatchSize - 1);
+                }
+            } catch (InterruptedException e) {
+                //只响应CLOSE标记
+                continue;
+            }
+            //CLOSE总是最后一个入队的元素
+            stopping = batch.remove(CLOSE);
+            writeBatch(batch);
+            batch.clear();
+        }
+        try {
+            drain();
+            sync();
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.error("关闭文件失败: {}", path, e);
+        }
+    }
+
+    /**
+     * 写线程退出后队列中不应再有数据, 若因异常退出, 让等待的flush失败并记录丢弃的行数
+     */
+    private void failPending() {
+        List<Object> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        if (pending.isEmpty()) {
+            return;
+        }
+        BaseRuntimeException cause = new BaseRuntimeException("写线程已退出: {}", path);
+        int dropped = 0;
+        for (Object element : pending) {
+            if (element instanceof CompletableFuture<?> barrier) {
+                barrier.completeExceptionally(cause);
+            } else if (element instanceof byte[]) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            LOGGER.error("写线程已退出, 丢弃{}行: {}", dropped, path);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeBatch(List<Object> batch) {
+        List<CompletableFuture<Void>> barriers = null;
+        for (Object element : batch) {
+            if (element instanceof CompletableFuture) {
+                if (barriers == null) {
+                    barriers = new ArrayList<>(1);
+                }
+                barriers.add((CompletableFuture<Void>) element);
+            }
+        }
+        Throwable cause = failure;
+        if (cause != null) {
+            //失败后不再写入, 失败前已入队的数据随之丢弃, 其后的flush同样失败
+            if (barriers != null) {
+                barriers.forEach(barrier -> barrier.completeExceptionally(cause));
+            }
+            return;
+        }
+        try {
+            for (Object element : batch) {
+                if (element instanceof byte[] line) {
+                    append(line);
+                }
+            }
+            drain();
+            if (fsyncPolicy == FsyncPolicy.BATCH
+                    || (fsyncPolicy == FsyncPolicy.INTERVAL && System.nanoTime() - lastSyncNanos >= fsyncIntervalNanos)) {
+                sync();
+            }
+            if (barriers != null) {
+                barriers.forEach(barrier -> barrier.complete(null));
+            }
+        } catch (IOException | RuntimeException e) {
+            if (failure == null) {
+                LOGGER.error("写入文件失败: {}", path, e);
+            }
+            failure = e;
+            if (barriers != null) {
+                barriers.forEach(barrier -> barrier.completeExceptionally(e));
+            }
+        }
+    }
+
+    private void append(byte[] line) throws IOException {
+        int length = line.length + 1;
+        if (maxFileSize > 0 && fileSize + buffer.position() + length > maxFileSize && fileSize + buffer.position() > 0) {
+            rotate();
+        }
+        if (buffer.remaining() < length) {
+            drain();
+        }
+        if (buffer.remaining() < length) {
+            //超过缓冲区大小的单行直接写入
+            writeFully(ByteBuffer.wrap(line));
+            buffer.put(LINE_SEPARATOR);
+            return;
+        }
+        buffer.put(line).put(LINE_SEPARATOR);
+    }
+
+    private void drain() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer source) throws IOException {
+        while (source.hasRemaining()) {
+            fileSize += channel.write(source);
+        }
+        dirty = true;
+    }
+
+    private void sync() throws IOException {
+        if (dirty && fsyncPolicy != FsyncPolicy.NONE) {
+            channel.force(false);
+        }
+        dirty = false;
+        lastSyncNanos = System.nanoTime();
+    }
+
+    private void rotate() throws IOException {
+        drain();
+        sync();
+        channel.close();
+        String suffix = DatePattern.Formatters.of(ROTATE_PATTERN).format(LocalDateTime.now());
+        Path target = path.resolveSibling(path.getFileName() + "." + suffix);
+        for (int i = 1; Files.exists(target); i++) {
+            target = path.resolveSibling(path.getFileName() + "." + suffix + "-" + i);
+        }
+        Files.move(path, target);
+        openChannel();
+    }
+
+    private void openChannel() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        fileSize = channel.size();
+    }
+
+    //</editor-fold>
+
+    public static final class Builder {
+
+        private final Path path;
+        private JacksonCodecs codecs;
+        private FsyncPolicy fsyncPolicy = FsyncPolicy.NONE;
+        private Duration fsyncInterval = Duration.ofSeconds(1);
+        private long maxFileSize;
+        private int bufferSize = 256 * 1024;
+        private int queueCapacity = 8192;
+        private int maxBatchSize = 1024;
+
+        private Builder(Path path) {
+            this.path = path;
+        }
+
+        /**
+         * 序列化使用的ObjectMapper缓存, 必填; 通过JsonUtils.jsonLinesWriter创建时与JsonUtils相同
+         */
+        public Builder codecs(JacksonCodecs codecs) {
+            this.codecs = codecs;
+            return this;
+        }
+
+        public Builder fsyncPolicy(FsyncPolicy fsyncPolicy) {
+            this.fsyncPolicy = fsyncPolicy;
+            return this;
+        }
+
+        /**
+         * {@link FsyncPolicy#INTERVAL} 的落盘间隔, 默认1秒
+         */
+        public Builder fsyncInterval(Duration fsyncInterval) {
+            this.fsyncInterval = fsyncInterval;
+            return this;
+        }
+
+        /**
+         * 单个文件大小上限(字节), 小于等于0不滚动
+         */
+        public Builder maxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        /**
+         * 直接内存缓冲区大小(字节), 默认256K
+         */
+        public Builder bufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * 待写入队列容量, 默认8192
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * 写线程每批最多处理的行数, 默认1024
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public JsonLinesWriter build() {
+            if (codecs == null) {
+                throw new IllegalArgumentException("codecs不能为空");
+            }
+            if (bufferSize <= 0 || queueCapacity <= 0 || maxBatchSize <= 0) {
+                throw new IllegalArgumentException("bufferSize、queueCapacity、maxBatchSize必须大于0");
+            }
+            if (fsyncInterval == null || fsyncInterval.isNegative() || fsyncInterval.isZero()) {
+                throw new IllegalArgumentException("fsyncInterval必须大于0");
+            }
+            return new JsonLinesWriter(this);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Comparator;
+
+/**
+ * <pre>
+ * <b>JSON Patch(RFC 6902)</b>
+ * <b>Description:</b>
+ * 按顺序执行add、remove、replace、move、copy、test操作, 任一操作失败即抛出异常.
+ * move、copy、test需要随机访问文档, 因此在树上执行; 操作直接修改传入的树, 返回值为执行后的根节点
+ * (替换根节点时与传入的不是同一个对象). test比较数字时只比较数值, 1与1.0相等.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/22 11:00    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/22
+ */
+public final class JsonPatch {
+
+    private static final String APPEND = "-";
+
+    /**
+     * 数字按数值比较, 其他按equals比较. NaN、Infinity没有对应的BigDecimal, 按double比较, NaN与NaN相等.
+     * 与 {@link JsonDiff} 共用
+     */
+    static final Comparator<JsonNode> VALUE_COMPARATOR = (a, b) -> {
+        if (a.isNumber() && b.isNumber()) {
+            if (isNonFinite(a) || isNonFinite(b)) {
+                return Double.compare(a.doubleValue(), b.doubleValue());
+            }
+            return a.decimalValue().compareTo(b.decimalValue());
+        }
+        return a.equals(b) ? 0 : 1;
+    };
+
+    private JsonPatch() {
+    }
+
+    private static boolean isNonFinite(JsonNode node) {
+        return node.isFloatingPointNumber() && !node.isBigDecimal() && !Double.isFinite(node.doubleValue());
+    }
+
+    /**
+     * 执行补丁
+     *
+     * @param target 目标文档, 会被修改
+     * @param patch  操作数组
+     * @return 执行后的根节点
+     */
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (!patch.isArray()) {
+            throw new BaseRuntimeException("JSON Patch必须是数组");
+        }
+        JsonNode root = target;
+        for (JsonNode operation : patch) {
+            root = applyOperation(root, operation);
+        }
+        return root;
+    }
+
+    private static JsonNode applyOperation(JsonNode root, JsonNode operation) {
+        String op = operation.path("op").asText();
+        JsonPointer path = pointer(operation, "path");
+        switch (op) {
+            case "add":
+                return add(root, path, value(operation));
+            case "remove":
+                remove(root, path);
+                return root;
+            case "replace":
+                return replace(root, path, value(operation));
+            case "move": {
+                JsonPointer from = pointer(operation, "from");
+                if (isProperPrefix(from, path)) {
+                    throw new BaseRuntimeException("不能将{}移动到其子节点{}", from, path);
+                }
+                if (from.equals(path)) {
+                    get(root, from);
+                    return root;
+                }
+                JsonNode value = get(root, from);
+                if (from.matches()) {
+                    return value;
+                }
+                remove(root, from);
+                return add(root, path, value);
+            }
+            case "copy":
+                return add(root, path, get(root, pointer(operation, "from")).deepCopy());
+            case "test":
+                if (!get(root, path).equals(VALUE_COMPARATOR, value(operation))) {
+                    throw new BaseRuntimeException("JSON Patch测试失败: {}", path);
+                }
+                return root;
+            default:
+                throw new BaseRuntimeException("不支持的JSON Patch操作: {}", op);
+        }
+    }
+
+    /**
+     * 对象上新增或替换字段, 数组上在下标处插入, "-"表示追加到末尾
+     */
+    private static JsonNode add(JsonNode root, JsonPointer path, JsonNode value) {
+        if (path.matches()) {
+            return value;
+        }
+        JsonNode parent = parent(root, path);
+        String name = path.last().getMatchingProperty();
+        if (parent instanceof ObjectNode object) {
+            object.set(name, value);
+        } else if (parent instanceof ArrayNode array) {
+            if (APPEND.equals(name)) {
+                array.add(value);
+            } else {
+                array.insert(index(path, array.size()), value);
+            }
+        } else {
+            throw new BaseRuntimeException("路径的父节点不是对象或数组: {}", path);
+        }
+        return root;
+    }
+
+    /**
+     * 替换已存在的值, 字段保留在原位置
+     */
+    private static JsonNode replace(JsonNode root, JsonPointer path, JsonNode value) {
+        get(root, path);
+        if (path.matches()) {
+            return value;
+        }
+        JsonNode parent = parent(root, path);
+        if (parent instanceof ObjectNode object) {
+            object.set(path.last().getMatchingProperty(), value);
+        } else {
+            ((ArrayNode) parent).set(index(path, parent.size() - 1), value);
+        }
+        return root;
+    }
+
+    private static void remove(JsonNode root, JsonPointer path) {
+        if (path.matches()) {
+            throw new BaseRuntimeException("不能删除根节点");
+        }
+        JsonNode parent = parent(root, path);
+        String name = path.last().getMatchingProperty();
+        if (parent instanceof ObjectNode object && object.has(name)) {
+            object.remove(name);
+        } else if (parent instanceof ArrayNode array) {
+            array.remove(index(path, array.size() - 1));
+        } else {
+            throw new BaseRuntimeException("路径不存在: {}", path);
+        }
+    }
+
+    private static JsonNode get(JsonNode root, JsonPointer path) {
+        JsonNode node = root.at(path);
+        if (node.isMissingNode()) {
+            throw new BaseRuntimeException("路径不存在: {}", path);
+        }
+        return node;
+    }
+
+    private static JsonNode parent(JsonNode root, JsonPointer path) {
+        return get(root, path.head());
+    }
+
+    /**
+     * @param max 允许的最大下标
+     */
+    private static int index(JsonPointer path, int max) {
+        int index = path.last().getMatchingIndex();
+        if (index < 0 || index > max) {
+            throw new BaseRuntimeException("数组下标无效: {}", path);
+        }
+        return index;
+    }
+
+    private static boolean isProperPrefix(JsonPointer prefix, JsonPointer path) {
+        String parent = prefix.toString();
+        return path.toString().startsWith(parent + "/");
+    }
+
+    private static JsonPointer pointer(JsonNode operation, String member) {
+        JsonNode pointer = operation.get(member);
+        if (pointer == null || !pointer.isTextual()) {
+            throw new BaseRuntimeException("JSON Patch操作缺少{}: {}", member, operation);
+        }
+        try {
+            return JsonPointer.compile(pointer.textValue());
+        } catch (IllegalArgumentException e) {
+            throw new BaseRuntimeException("无效的JSON Pointer: {}", e, pointer.textValue());
+        }
+    }
+
+    private static JsonNode value(JsonNode operation) {
+        JsonNode value = operation.get("value");
+        if (value == null) {
+            throw new BaseRuntimeException("JSON Patch操作缺少value: {}", operation);
+        }
+        return value.deepCopy();
+    }
+}
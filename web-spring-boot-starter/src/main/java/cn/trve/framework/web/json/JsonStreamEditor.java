@@ -0,0 +1,161 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <pre>
+ * <b>JSON流式改写</b>
+ * <b>Description:</b>
+ * 将parser的token逐个复制到generator, 途中替换、插入或丢弃目标字段, 一次线性扫描完成修改, 不构建整棵树.
+ * 未修改的字段保持原有顺序; 替换的字段保留在原位置, 新增的字段追加到对象末尾.
+ * 同名字段重复出现时只保留第一个的位置, 与按树修改的结果一致.
+ * generator需由ObjectMapper创建, 以便写出JsonNode.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/22 10:20    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/22
+ */
+public final class JsonStreamEditor {
+
+    private JsonStreamEditor() {
+    }
+
+    /**
+     * 设置根对象的字段, 已存在时原位替换
+     *
+     * @param insert 字段不存在时是否追加到末尾
+     */
+    public static void put(JsonParser parser, JsonGenerator generator, String key, JsonNode value, boolean insert)
+            throws IOException {
+        startRoot(parser, generator);
+        boolean written = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (!name.equals(key)) {
+                generator.writeFieldName(name);
+                generator.copyCurrentStructure(parser);
+                continue;
+            }
+            if (!written) {
+                generator.writeFieldName(name);
+                generator.writeTree(value);
+                written = true;
+            }
+            parser.skipChildren();
+        }
+        if (!written && insert) {
+            generator.writeFieldName(key);
+            generator.writeTree(value);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * 去掉根对象的字段
+     */
+    public static void remove(JsonParser parser, JsonGenerator generator, String key) throws IOException {
+        startRoot(parser, generator);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (name.equals(key)) {
+                parser.skipChildren();
+            } else {
+                generator.writeFieldName(name);
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * 按JSON Merge Patch(RFC 7396)合并: patch中为null的字段删除, 对象递归合并, 其他值整体替换.
+     * 只有patch以树的形式读入, 目标文档流式处理
+     */
+    public static void mergePatch(JsonParser parser, JsonGenerator generator, JsonNode patch) throws IOException {
+        parser.nextToken();
+        merge(parser, generator, patch);
+    }
+
+    private static void merge(JsonParser parser, JsonGenerator generator, JsonNode patch) throws IOException {
+        if (parser.currentToken() != null) {
+            if (!patch.isObject() || parser.currentToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+            }
+        }
+        if (!patch.isObject()) {
+            generator.writeTree(patch);
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            writeWithoutNulls(generator, patch);
+            return;
+        }
+        generator.writeStartObject();
+        Set<String> applied = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            JsonNode value = patch.get(name);
+            if (value == null) {
+                generator.writeFieldName(name);
+                generator.copyCurrentStructure(parser);
+            } else if (!applied.add(name) || value.isNull()) {
+                parser.skipChildren();
+            } else {
+                generator.writeFieldName(name);
+                merge(parser, generator, value);
+            }
+        }
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!applied.contains(field.getKey()) && !field.getValue().isNull()) {
+                generator.writeFieldName(field.getKey());
+                writeWithoutNulls(generator, field.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * 目标中不存在的对象按空对象合并, 即去掉其中值为null的字段
+     */
+    private static void writeWithoutNulls(JsonGenerator generator, JsonNode node) throws IOException {
+        if (!node.isObject()) {
+            generator.writeTree(node);
+            return;
+        }
+        generator.writeStartObject();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!field.getValue().isNull()) {
+                generator.writeFieldName(field.getKey());
+                writeWithoutNulls(generator, field.getValue());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private static void startRoot(JsonParser parser, JsonGenerator generator) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new BaseRuntimeException("json根节点不是对象: {}", parser.currentToken());
+        }
+        generator.writeStartObject();
+    }
+}
@@ -0,0 +1,258 @@
+package cn.trve.framework.web.json;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <pre>
+ * <b>JSON流式校验</b>
+ * <b>Description:</b>
+ * 只遍历token, 不构建树也不物化字符串, 校验语法与 {@link JsonLimits} 中的各项上限.
+ * 文档必须是单个根值, 根值之后只允许空白. 校验失败时返回 {@link Violation}, 包含原因与行列、偏移位置.
+ * 是否接受注释、单引号等宽松语法由构造时传入的 {@link JacksonCodecs} 决定. 线程安全, 可共享.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/22 14:30    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/22
+ */
+public final class JsonValidator {
+
+    private final JacksonCodecs codecs;
+    private final JsonLimits limits;
+
+    public JsonValidator(JacksonCodecs codecs, JsonLimits limits) {
+        this.codecs = codecs;
+        this.limits = limits;
+    }
+
+    public JsonLimits getLimits() {
+        return limits;
+    }
+
+    public boolean isValid(String json) {
+        return validate(json) == null;
+    }
+
+    public boolean isValid(byte[] json) {
+        return validate(json) == null;
+    }
+
+    /**
+     * 校验json串
+     *
+     * @return 通过时返回null
+     */
+    public Violation validate(String json) {
+        if (json == null || json.isEmpty()) {
+            return Violation.empty();
+        }
+        if (json.length() > limits.getMaxDocumentLength()) {
+            return Violation.tooLarge(limits.getMaxDocumentLength());
+        }
+        try (JsonParser parser = codecs.treeReader().createParser(json)) {
+            return walk(parser);
+        } catch (JsonProcessingException e) {
+            return Violation.of(Type.SYNTAX, e.getOriginalMessage(), e.getLocation());
+        } catch (IOException e) {
+            return Violation.of(Type.SYNTAX, e.getMessage(), null);
+        }
+    }
+
+    /**
+     * 校验UTF-8字节
+     *
+     * @return 通过时返回null
+     */
+    public Violation validate(byte[] json) {
+        if (json == null || json.length == 0) {
+            return Violation.empty();
+        }
+        if (json.length > limits.getMaxDocumentLength()) {
+            return Violation.tooLarge(limits.getMaxDocumentLength());
+        }
+        try (JsonParser parser = codecs.treeReader().createParser(json)) {
+            return walk(parser);
+        } catch (JsonProcessingException e) {
+            return Violation.of(Type.SYNTAX, e.getOriginalMessage(), e.getLocation());
+        } catch (IOException e) {
+            return Violation.of(Type.SYNTAX, e.getMessage(), null);
+        }
+    }
+
+    /**
+     * 校验输入流, 读取超过文档上限时立即停止. 不关闭输入流
+     *
+     * @return 通过时返回null
+     */
+    public Violation validate(InputStream in) throws IOException {
+        LimitedInputStream limited = new LimitedInputStream(in, limits.getMaxDocumentLength());
+        try (JsonParser parser = codecs.treeReader().createParser(limited)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return walk(parser);
+        } catch (JsonProcessingException e) {
+            return Violation.of(Type.SYNTAX, e.getOriginalMessage(), e.getLocation());
+        } catch (LimitExceededException e) {
+            return Violation.tooLarge(limits.getMaxDocumentLength());
+        }
+    }
+
+    private Violation walk(JsonParser parser) throws IOException {
+        int depth = 0;
+        boolean complete = false;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (complete) {
+                return Violation.of(Type.SYNTAX, "根节点之后存在多余内容", parser.getTokenLocation());
+            }
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    if (++depth > limits.getMaxDepth()) {
+                        return Violation.of(Type.DEPTH, "嵌套超过" + limits.getMaxDepth() + "层",
+                                parser.getTokenLocation());
+                    }
+                }
+                case END_OBJECT, END_ARRAY -> depth--;
+                case FIELD_NAME -> {
+                    if (parser.getParsingContext().getEntryCount() > limits.getMaxObjectFields()) {
+                        return Violation.of(Type.OBJECT_FIELDS, "对象字段数超过" + limits.getMaxObjectFields(),
+                                parser.getTokenLocation());
+                    }
+                    if (parser.getTextLength() > limits.getMaxStringLength()) {
+                        return Violation.of(Type.STRING_LENGTH, "字段名长度超过" + limits.getMaxStringLength(),
+                                parser.getTokenLocation());
+                    }
+                }
+                case VALUE_STRING -> {
+                    if (parser.getTextLength() > limits.getMaxStringLength()) {
+                        return Violation.of(Type.STRING_LENGTH, "字符串长度超过" + limits.getMaxStringLength(),
+                                parser.getTokenLocation());
+                    }
+                }
+                default -> {
+                }
+            }
+            complete = depth == 0;
+        }
+        return complete ? null : Violation.empty();
+    }
+
+    /**
+     * 校验失败的原因
+     */
+    public enum Type {
+        /**
+         * 语法错误或内容为空
+         */
+        SYNTAX,
+        /**
+         * 嵌套过深
+         */
+        DEPTH,
+        /**
+         * 字符串或字段名过长
+         */
+        STRING_LENGTH,
+        /**
+         * 文档过大
+         */
+        DOCUMENT_LENGTH,
+        /**
+         * 对象字段过多
+         */
+        OBJECT_FIELDS,
+    }
+
+    /**
+     * 校验失败的原因与位置, 行列从1开始, 位置未知时为-1; 偏移按输入的字节或字符计
+     */
+    public record Violation(Type type, String message, int line, int column, long offset) {
+
+        private static Violation of(Type type, String message, JsonLocation location) {
+            if (location == null) {
+                return new Violation(type, message, -1, -1, -1);
+            }
+            long offset = location.getByteOffset() >= 0 ? location.getByteOffset() : location.getCharOffset();
+            return new Violation(type, message, location.getLineNr(), location.getColumnNr(), offset);
+        }
+
+        private static Violation empty() {
+            return new Violation(Type.SYNTAX, "内容为空", -1, -1, 0);
+        }
+
+        private static Violation tooLarge(long max) {
+            return new Violation(Type.DOCUMENT_LENGTH, "文档长度超过" + max, -1, -1, max);
+        }
+
+        @Override
+        public String toString() {
+            if (line < 0) {
+                return type + ": " + message;
+            }
+            return type + ": " + message + " (第" + line + "行第" + column + "列, 偏移" + offset + ")";
+        }
+    }
+
+    /**
+     * 读取超过上限时抛出 {@link LimitExceededException}
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining == 0) {
+                return checkEnd();
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                return checkEnd();
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+
+        private int checkEnd() throws IOException {
+            if (super.read() >= 0) {
+                throw new LimitExceededException();
+            }
+            return -1;
+        }
+    }
+
+    private static final class LimitExceededException extends IOException {
+        private LimitExceededException() {
+            super(null, null);
+        }
+    }
+}
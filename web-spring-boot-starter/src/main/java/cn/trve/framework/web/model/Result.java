@@ -56,8 +56,9 @@ public class Result<T> {
      * @param data   数据
      */
     private Result(Status status, ViewLevelEnum level, T data) {
-        this.code = code;
+        this.code = status.code;
         this.status = status;
+        this.level = level;
         this.data = data;
     }
 
@@ -147,6 +148,15 @@ public class Result<T> {
         return Result.of(status.code, reason, DEFAULT_FAIL_LEVEL, null);
     }
 
+    /**
+     * non-javadoc.
+     *
+     * @see Result#of(String, String, ViewLevelEnum, Object)
+     */
+    public static <T> Result<T> fail(Status status, String reason, T data) {
+        return Result.of(status.code, reason, DEFAULT_FAIL_LEVEL, data);
+    }
+
     /**
      * non-javadoc.
      *
@@ -0,0 +1,142 @@
+package cn.trve.framework.web.model;
+
+import cn.trve.framework.web.constant.enums.ViewLevelEnum;
+import cn.trve.framework.web.exception.BaseRuntimeException;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * <pre>
+ * <b>流式响应结果</b>
+ * <b>Description:</b>
+ * 与 {@link Result} 序列化后的结构相同, data为数组.
+ * 数据在写出响应时逐条从迭代器读取并分批刷出, 内存占用与数据量无关,
+ * 适合大数据量的列表查询, 数据源可以是 {@link Stream}、{@link Iterator} 或数据库游标.
+ * 写出结束(包括异常)后会关闭数据源.
+ * 注意: 响应已经开始输出后再发生异常无法再返回错误信息, 客户端会收到不完整的JSON.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 14:10    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public class StreamingResult<T> implements AutoCloseable {
+
+    private final Result.Status status;
+    private final ViewLevelEnum level;
+    private final Iterator<T> iterator;
+    private final AutoCloseable resource;
+
+    private StreamingResult(Result.Status status, ViewLevelEnum level, Iterator<T> iterator, AutoCloseable resource) {
+        this.status = status;
+        this.level = level;
+        this.iterator = iterator;
+        this.resource = resource;
+    }
+
+    //<editor-fold desc="静态方法">
+
+    /**
+     * 创建一个StreamingResult对象
+     *
+     * @param status   状态
+     * @param level    状态级别
+     * @param iterator 数据
+     * @param resource 写出结束后需要关闭的资源, 可以为null
+     * @param <T>      数据类型
+     * @return StreamingResult对象
+     */
+    public static <T> StreamingResult<T> of(Result.Status status, ViewLevelEnum level, Iterator<T> iterator,
+            AutoCloseable resource) {
+        return new StreamingResult<>(status, level, iterator, resource);
+    }
+
+    /**
+     * non-javadoc.
+     *
+     * @see StreamingResult#of(Result.Status, ViewLevelEnum, Iterator, AutoCloseable)
+     */
+    public static <T> StreamingResult<T> ok(Stream<T> stream) {
+        return of(Result.OK, Result.DEFAULT_OK_LEVEL, stream.iterator(), stream);
+    }
+
+    /**
+     * non-javadoc.
+     *
+     * @see StreamingResult#of(Result.Status, ViewLevelEnum, Iterator, AutoCloseable)
+     */
+    public static <T> StreamingResult<T> ok(Iterator<T> iterator) {
+        return of(Result.OK, Result.DEFAULT_OK_LEVEL, iterator,
+                iterator instanceof AutoCloseable closeable ? closeable : null);
+    }
+
+    /**
+     * 数据库游标等可关闭的Iterable, 写出结束后会被关闭
+     *
+     * @see StreamingResult#of(Result.Status, ViewLevelEnum, Iterator, AutoCloseable)
+     */
+    public static <T> StreamingResult<T> ok(Iterable<T> iterable) {
+        return of(Result.OK, Result.DEFAULT_OK_LEVEL, iterable.iterator(),
+                iterable instanceof AutoCloseable closeable ? closeable : null);
+    }
+    //</editor-fold>
+
+    //<editor-fold desc="getter">
+
+    /**
+     * 获取状态码
+     *
+     * @return 状态码
+     */
+    public String getCode() {
+        return status.code();
+    }
+
+    /**
+     * 获取状态信息,错误描述.
+     *
+     * @return 状态信息, 错误描述.
+     */
+    public String getReason() {
+        return status.reason();
+    }
+
+    /**
+     * 获取状态级别
+     *
+     * @return 状态级别
+     */
+    public ViewLevelEnum getLevel() {
+        return level;
+    }
+
+    /**
+     * 获取数据迭代器, 只能遍历一次.
+     *
+     * @return 数据迭代器
+     */
+    public Iterator<T> iterator() {
+        return iterator;
+    }
+    //</editor-fold>
+
+    /**
+     * 关闭数据源
+     */
+    @Override
+    public void close() {
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (Exception e) {
+            throw new BaseRuntimeException("关闭数据源失败", e);
+        }
+    }
+}
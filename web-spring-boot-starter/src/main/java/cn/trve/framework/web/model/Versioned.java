@@ -0,0 +1,39 @@
+package cn.trve.framework.web.model;
+
+/**
+ * <pre>
+ * <b>带版本的数据</b>
+ * <b>Description:</b>
+ * {@link Result} 的data实现该接口时, GET请求的ETag直接由版本生成, 命中If-None-Match时不再序列化响应.
+ * 版本必须在内容变化时变化, 例如乐观锁的版本号; 返回null时按响应内容的摘要生成ETag.
+ * 同一接口可能返回不同的数据(如当前用户)时, 需通过 {@link #versionKey()} 区分, 否则不同数据的相同版本会得到相同的ETag.
+ * 由具体类型按需实现: 只有每次修改都会递增的版本才能使用, 如注册了乐观锁插件的@Version字段;
+ * 版本不随修改变化时客户端会一直得到过期的304.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/23 14:20    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/23
+ */
+public interface Versioned {
+
+    /**
+     * 数据版本
+     *
+     * @return 版本, 未知时返回null
+     */
+    Object getVersion();
+
+    /**
+     * 区分不同数据的标识, 如主键. 不是getter, 不会被序列化
+     *
+     * @return 标识, 默认null
+     */
+    default Object versionKey() {
+        return null;
+    }
+}
@@ -0,0 +1,173 @@
+package cn.trve.framework.web.monitor;
+
+import cn.trve.framework.web.constant.enums.LogLevelEnum;
+import cn.trve.framework.web.exception.ExceptionFingerprint;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * <pre>
+ * <b>异常统计</b>
+ * <b>Description:</b>
+ * 由全局异常处理上报, 按 异常指纹 + 路由 + 日志级别 计数.
+ * 按秒分桶形成滑动窗口, 每个桶是一个long, 高32位存秒数、低32位存次数, 记录一次只需要一次CAS,
+ * 每个种类约占 {@link #MAX_WINDOW_SECONDS} * 8 字节, 可以在生产环境常开.
+ * 统计的种类有上限, 超出后计入 {@link #OVERFLOW_ROUTE}.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 16:30    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public class ExceptionStatistics {
+
+    /**
+     * 滑动窗口的最大长度(秒)
+     */
+    public static final int MAX_WINDOW_SECONDS = 300;
+
+    /**
+     * 统计种类超出上限后使用的路由
+     */
+    public static final String OVERFLOW_ROUTE = "<overflow>";
+
+    private static final ExceptionFingerprint OVERFLOW_FINGERPRINT =
+            new ExceptionFingerprint(OVERFLOW_ROUTE, "", null);
+
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+
+    public ExceptionStatistics(int maxKeys) {
+        this(maxKeys, () -> TimeUnit.NANOSECONDS.toSeconds(System.nanoTime()));
+    }
+
+    /**
+     * @param maxKeys 最多统计的种类
+     * @param clock   当前秒数, 只用于计算相对时间
+     */
+    ExceptionStatistics(int maxKeys, LongSupplier clock) {
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * 记录一次异常
+     *
+     * @param fingerprint 异常指纹
+     * @param route       路由, 建议使用接口的路径模板
+     * @param level       日志级别
+     */
+    public void record(ExceptionFingerprint fingerprint, String route, LogLevelEnum level) {
+        Key key = new Key(fingerprint, route, level);
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maxKeys) {
+                key = new Key(OVERFLOW_FINGERPRINT, OVERFLOW_ROUTE, level);
+            }
+            counter = counters.computeIfAbsent(key, k -> new Counter());
+        }
+        counter.increment(clock.getAsLong());
+    }
+
+    /**
+     * 获取窗口内发生次数最多的异常
+     *
+     * @param n             条数, 不大于0时返回空列表
+     * @param windowSeconds 窗口长度(秒), 不超过 {@link #MAX_WINDOW_SECONDS}
+     * @return 按窗口内次数倒序排列的统计
+     */
+    public List<ExceptionStat> top(int n, int windowSeconds) {
+        if (n <= 0) {
+            return new ArrayList<>();
+        }
+        int window = Math.max(1, Math.min(windowSeconds, MAX_WINDOW_SECONDS));
+        long now = clock.getAsLong();
+        List<ExceptionStat> stats = new ArrayList<>();
+        for (Map.Entry<Key, Counter> entry : counters.entrySet()) {
+            long count = entry.getValue().sum(now, window);
+            if (count == 0) {
+                continue;
+            }
+            Key key = entry.getKey();
+            stats.add(new ExceptionStat(key.fingerprint.type(), key.fingerprint.template(), key.fingerprint.frames(),
+                    key.route, key.level, count, (double) count / window, entry.getValue().total.sum()));
+        }
+        stats.sort(Comparator.comparingLong(ExceptionStat::count).reversed());
+        return stats.size() > n ? new ArrayList<>(stats.subList(0, n)) : stats;
+    }
+
+    /**
+     * 清空统计
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * 单项统计
+     *
+     * @param type          异常类型
+     * @param template      信息模板
+     * @param frames        前几帧堆栈
+     * @param route         路由
+     * @param level         日志级别
+     * @param count         窗口内次数
+     * @param ratePerSecond 窗口内每秒次数
+     * @param total         累计次数
+     */
+    public record ExceptionStat(String type, String template, String frames, String route, LogLevelEnum level,
+                                long count, double ratePerSecond, long total) {
+    }
+
+    private record Key(ExceptionFingerprint fingerprint, String route, LogLevelEnum level) {
+    }
+
+    /**
+     * 按秒分桶的计数器, 桶循环使用, 通过桶中记录的秒数判断是否过期
+     */
+    private static final class Counter {
+        private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+        private final LongAdder total = new LongAdder();
+        private final AtomicLongArray buckets = new AtomicLongArray(MAX_WINDOW_SECONDS);
+
+        private void increment(long second) {
+            int index = Math.floorMod(second, MAX_WINDOW_SECONDS);
+            long tag = (long) (int) second << 32;
+            long bucket;
+            long next;
+            do {
+                bucket = buckets.get(index);
+                long count = bucket & COUNT_MASK;
+                //秒数不同说明桶已过期, 从1重新计数; 次数饱和后不再增加
+                next = (bucket & ~COUNT_MASK) != tag ? tag | 1 : count == COUNT_MASK ? bucket : bucket + 1;
+            } while (next != bucket && !buckets.compareAndSet(index, bucket, next));
+            total.increment();
+        }
+
+        private long sum(long now, int window) {
+            long sum = 0;
+            for (int i = 0; i < window; i++) {
+                long second = now - i;
+                long bucket = buckets.get(Math.floorMod(second, MAX_WINDOW_SECONDS));
+                if ((bucket & ~COUNT_MASK) == (long) (int) second << 32) {
+                    sum += bucket & COUNT_MASK;
+                }
+            }
+            return sum;
+        }
+    }
+}
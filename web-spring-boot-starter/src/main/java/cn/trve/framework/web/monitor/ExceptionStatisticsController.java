@@ -0,0 +1,48 @@
+package cn.trve.framework.web.monitor;
+
+import cn.trve.framework.web.model.Result;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * <b>异常统计接口</b>
+ * <b>Description:</b>
+ * 查询最近一段时间内发生次数最多的异常, 路径通过 cn.trve.web.exception-stats.path 配置.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 16:50    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+@RestController
+@RequestMapping("${cn.trve.web.exception-stats.path:/exception-stats}")
+public class ExceptionStatisticsController {
+
+    private final ExceptionStatistics statistics;
+
+    public ExceptionStatisticsController(ExceptionStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * 查询发生次数最多的异常
+     *
+     * @param top    条数
+     * @param window 窗口长度(秒)
+     * @return 统计结果
+     */
+    @GetMapping
+    public Result<List<ExceptionStatistics.ExceptionStat>> top(@RequestParam(name = "top", defaultValue = "10") int top,
+            @RequestParam(name = "window", defaultValue = "60") int window) {
+        return Result.ok(statistics.top(top, window));
+    }
+}
@@ -51,7 +51,9 @@ public class AssertUtils {
      */
     public static void isTrue(boolean expression, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        isTrue(expression, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (!expression) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
     }
 
     /**
@@ -101,7 +103,9 @@ public class AssertUtils {
      */
     public static void isFalse(boolean expression, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        isFalse(expression, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (expression) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
     }
 
     /**
@@ -151,7 +155,9 @@ public class AssertUtils {
      */
     public static void isNull(Object object, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        isNull(object, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (null != object) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
     }
 
     /**
@@ -209,7 +215,10 @@ public class AssertUtils {
      * @throws BusinessException if the object is {@code null}
      */
     public static <T> T notNull(T object, String errorMsgTemplate, Object... params) throws BusinessException {
-        return notNull(object, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (null == object) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
+        return object;
     }
 
     /**
@@ -270,7 +279,10 @@ public class AssertUtils {
      */
     public static <T extends CharSequence> T notEmpty(T text, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        return notEmpty(text, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (StringUtils.isEmpty(text)) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
+        return text;
     }
 
     /**
@@ -330,7 +342,10 @@ public class AssertUtils {
      */
     public static <T extends CharSequence> T notBlank(T text, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        return notBlank(text, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (StringUtils.isBlank(text)) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
+        return text;
     }
 
     /**
@@ -451,7 +466,10 @@ public class AssertUtils {
      */
     public static <T> T[] notEmpty(T[] array, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        return notEmpty(array, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (ArrayUtils.isEmpty(array)) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
+        return array;
     }
 
     /**
@@ -509,7 +527,10 @@ public class AssertUtils {
      */
     public static <T> T[] noNullElements(T[] array, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        return noNullElements(array, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (ArrayUtils.contains(array, null)) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
+        return array;
     }
 
     /**
@@ -569,7 +590,10 @@ public class AssertUtils {
      */
     public static <E, T extends Collection<E>> T notEmpty(T collection, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        return notEmpty(collection, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (CollectionUtils.isEmpty(collection)) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
+        return collection;
     }
 
     /**
@@ -633,7 +657,10 @@ public class AssertUtils {
      */
     public static <K, V, T extends Map<K, V>> T notEmpty(T map, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        return notEmpty(map, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (MapUtils.isEmpty(map)) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
+        return map;
     }
 
     /**
@@ -850,8 +877,10 @@ public class AssertUtils {
      * @since 5.7.15
      */
     public static int checkBetween(int value, int min, int max, String errorMsgTemplate, Object... params) {
-        return checkBetween(value, min, max,
-                new IllegalArgumentException(StringUtils.format(errorMsgTemplate, params)));
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(StringUtils.format(errorMsgTemplate, params));
+        }
+        return value;
     }
 
     /**
@@ -898,8 +927,10 @@ public class AssertUtils {
      * @since 5.7.15
      */
     public static long checkBetween(long value, long min, long max, String errorMsgTemplate, Object... params) {
-        return checkBetween(value, min, max,
-                new IllegalArgumentException(StringUtils.format(errorMsgTemplate, params)));
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(StringUtils.format(errorMsgTemplate, params));
+        }
+        return value;
     }
 
     /**
@@ -946,8 +977,10 @@ public class AssertUtils {
      * @since 5.7.15
      */
     public static double checkBetween(double value, double min, double max, String errorMsgTemplate, Object... params) {
-        return checkBetween(value, min, max,
-                new IllegalArgumentException(StringUtils.format(errorMsgTemplate, params)));
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(StringUtils.format(errorMsgTemplate, params));
+        }
+        return value;
     }
 
     /**
@@ -1013,7 +1046,9 @@ public class AssertUtils {
      */
     public static void notEquals(Object obj1, Object obj2, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        notEquals(obj1, obj2, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (Objects.equals(obj1, obj2)) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
     }
 
     /**
@@ -1060,7 +1095,9 @@ public class AssertUtils {
      */
     public static void equals(Object obj1, Object obj2, String errorMsgTemplate, Object... params)
             throws BusinessException {
-        equals(obj1, obj2, new BusinessException(StringUtils.format(errorMsgTemplate, params)));
+        if (ObjectUtils.notEqual(obj1, obj2)) {
+            throw new BusinessException(errorMsgTemplate, params);
+        }
     }
 
     /**
@@ -1,10 +1,14 @@
 package cn.trve.framework.web.util;
 
+import cn.trve.framework.web.constant.enums.DataFormatEnum;
+import com.fasterxml.jackson.core.type.TypeReference;
+
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Type;
 import java.net.Authenticator;
 import java.net.CookieHandler;
 import java.net.ProxySelector;
@@ -34,6 +38,10 @@ import java.util.concurrent.Executor;
 public class HttpUtils {
     private static volatile HttpClient client;
     private static final HttpClientProps HTTP_CLIENT_PROPS = new HttpClientProps();
+    /**
+     * 非2xx响应时读取的响应体字节数上限
+     */
+    private static final int ERROR_BODY_LIMIT = 1024;
 
     static {
         if (client == null) {
@@ -905,6 +913,267 @@ public class HttpUtils {
     }
     //=================================DELETE END========================================//
 
+    //=================================JSON BEGIN========================================//
+
+    /**
+     * 同步GET请求，响应体按UTF-8字节流直接反序列化(严格模式)，不经过String，
+     * 非2xx响应抛出HttpStatusException，204返回null
+     *
+     * @param url       访问URL
+     * @param headerMap header键值对
+     * @param timeout   超时时间
+     * @param type      返回类型
+     * @return T
+     */
+    public static <T> T doGetJson(String url, Map<String, String> headerMap, long timeout, Class<T> type)
+        throws IOException, InterruptedException {
+        HttpRequest httpRequest = buildGetRequest(url, headerMap, timeout);
+        return readJson(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()), type);
+    }
+
+    /**
+     * 同步GET请求，响应体按UTF-8字节流直接反序列化(严格模式)，不经过String，
+     * 非2xx响应抛出HttpStatusException，204返回null
+     *
+     * @param url       访问URL
+     * @param headerMap header键值对
+     * @param timeout   超时时间
+     * @param type      返回类型
+     * @return T
+     */
+    public static <T> T doGetJson(String url, Map<String, String> headerMap, long timeout, TypeReference<T> type)
+        throws IOException, InterruptedException {
+        HttpRequest httpRequest = buildGetRequest(url, headerMap, timeout);
+        return readJson(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()), type);
+    }
+
+    /**
+     * 同步POST请求，请求体直接序列化为UTF-8字节并固定以application/json发送，
+     * 响应体按字节流反序列化(严格模式)，非2xx响应抛出HttpStatusException，204返回null
+     *
+     * @param url       访问URL
+     * @param headerMap header键值对
+     * @param body      请求对象
+     * @param timeout   超时时间
+     * @param type      返回类型
+     * @return T
+     */
+    public static <T> T doPostJson(String url, Map<String, String> headerMap, Object body, long timeout,
+        Class<T> type) throws IOException, InterruptedException {
+        HttpRequest httpRequest = buildPostRequest(url, jsonHeaders(headerMap), ofJson(body), timeout);
+        return readJson(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()), type);
+    }
+
+    /**
+     * 同步POST请求，请求体直接序列化为UTF-8字节并固定以application/json发送，
+     * 响应体按字节流反序列化(严格模式)，非2xx响应抛出HttpStatusException，204返回null
+     *
+     * @param url       访问URL
+     * @param headerMap header键值对
+     * @param body      请求对象
+     * @param timeout   超时时间
+     * @param type      返回类型
+     * @return T
+     */
+    public static <T> T doPostJson(String url, Map<String, String> headerMap, Object body, long timeout,
+        TypeReference<T> type) throws IOException, InterruptedException {
+        HttpRequest httpRequest = buildPostRequest(url, jsonHeaders(headerMap), ofJson(body), timeout);
+        return readJson(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()), type);
+    }
+
+    /**
+     * 同步PUT请求，请求体直接序列化为UTF-8字节并固定以application/json发送，
+     * 响应体按字节流反序列化(严格模式)，非2xx响应抛出HttpStatusException，204返回null
+     *
+     * @param url       访问URL
+     * @param headerMap header键值对
+     * @param body      请求对象
+     * @param timeout   超时时间
+     * @param type      返回类型
+     * @return T
+     */
+    public static <T> T doPutJson(String url, Map<String, String> headerMap, Object body, long timeout,
+        Class<T> type) throws IOException, InterruptedException {
+        HttpRequest httpRequest = buildPutRequest(url, jsonHeaders(headerMap), ofJson(body), timeout);
+        return readJson(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()), type);
+    }
+
+    /**
+     * 服务间传输的JSON按严格模式解析, 读取后关闭输入流. 非2xx响应抛出 {@link HttpStatusException}, 204返回null
+     */
+    private static <T> T readJson(HttpResponse<InputStream> response, Type type) throws IOException {
+        InputStream body = successBody(response);
+        if (body == null) {
+            return null;
+        }
+        try (body) {
+            return JsonUtils.getStrictCodecs().reader(type).readValue(body);
+        }
+    }
+
+    private static <T> T readJson(HttpResponse<InputStream> response, TypeReference<T> type) throws IOException {
+        return readJson(response, type.getType());
+    }
+
+    /**
+     * 检查响应状态, 只有2xx且有响应体时才交给解码器
+     *
+     * @return 响应体, 204时关闭并返回null
+     * @throws HttpStatusException 非2xx响应, 携带状态码和响应体开头的内容
+     */
+    private static InputStream successBody(HttpResponse<InputStream> response) throws IOException {
+        int status = response.statusCode();
+        if (status >= 200 && status < 300 && status != 204) {
+            return response.body();
+        }
+        try (InputStream body = response.body()) {
+            if (status == 204) {
+                return null;
+            }
+            String content = new String(body.readNBytes(ERROR_BODY_LIMIT), StandardCharsets.UTF_8);
+            throw new HttpStatusException(status, content);
+        }
+    }
+
+    /**
+     * 请求体固定为JSON, 覆盖调用方或默认配置的Content-Type; 未指定Accept时补充application/json
+     */
+    private static Map<String, String> jsonHeaders(Map<String, String> headerMap) {
+        Map<String, String> headers = headerMap == null ? new HashMap<>() : new HashMap<>(headerMap);
+        headers.keySet().removeIf("Content-Type"::equalsIgnoreCase);
+        return negotiate(headers, DataFormatEnum.JSON);
+    }
+
+    /**
+     * 将对象序列化为UTF-8字节的请求体
+     *
+     * @param body 请求对象
+     * @return java.net.http.HttpRequest.BodyPublisher
+     */
+    public static HttpRequest.BodyPublisher ofJson(Object body) {
+        return HttpRequest.BodyPublishers.ofByteArray(JsonUtils.toBytes(body));
+    }
+
+    /**
+     * 同步GET请求，按指定编码协商响应格式(Smile/CBOR/JSON)，响应按其Content-Type解码，
+     * 非2xx响应抛出HttpStatusException，204返回null
+     *
+     * @param url       访问URL
+     * @param headerMap header键值对
+     * @param timeout   超时时间
+     * @param type      返回类型
+     * @param format    期望的编码
+     * @return T
+     */
+    public static <T> T doGetObject(String url, Map<String, String> headerMap, long timeout, Class<T> type,
+        DataFormatEnum format) throws IOException, InterruptedException {
+        HttpRequest httpRequest = buildGetRequest(url, negotiate(headerMap, format), timeout);
+        return readObject(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()), type);
+    }
+
+    /**
+     * 同步POST请求，请求体按指定编码序列化，响应按其Content-Type解码，
+     * 非2xx响应抛出HttpStatusException，204返回null
+     *
+     * @param url       访问URL
+     * @param headerMap header键值对
+     * @param body      请求对象
+     * @param timeout   超时时间
+     * @param type      返回类型
+     * @param format    请求体编码及期望的响应编码
+     * @return T
+     */
+    public static <T> T doPostObject(String url, Map<String, String> headerMap, Object body, long timeout,
+        Class<T> type, DataFormatEnum format) throws IOException, InterruptedException {
+        HttpRequest httpRequest = buildPostRequest(url, negotiate(headerMap, format), of(body, format), timeout);
+        return readObject(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()), type);
+    }
+
+    /**
+     * 同步PUT请求，请求体按指定编码序列化，响应按其Content-Type解码，
+     * 非2xx响应抛出HttpStatusException，204返回null
+     *
+     * @param url       访问URL
+     * @param headerMap header键值对
+     * @param body      请求对象
+     * @param timeout   超时时间
+     * @param type      返回类型
+     * @param format    请求体编码及期望的响应编码
+     * @return T
+     */
+    public static <T> T doPutObject(String url, Map<String, String> headerMap, Object body, long timeout,
+        Class<T> type, DataFormatEnum format) throws IOException, InterruptedException {
+        HttpRequest httpRequest = buildPutRequest(url, negotiate(headerMap, format), of(body, format), timeout);
+        return readObject(client.send(httpRequest, HttpResponse.BodyHandlers.ofInputStream()), type);
+    }
+
+    /**
+     * 将对象按指定编码序列化为请求体
+     *
+     * @param body   请求对象
+     * @param format 编码
+     * @return java.net.http.HttpRequest.BodyPublisher
+     */
+    public static HttpRequest.BodyPublisher of(Object body, DataFormatEnum format) {
+        return HttpRequest.BodyPublishers.ofByteArray(JsonUtils.toBytes(body, format));
+    }
+
+    /**
+     * 补充Content-Type与Accept, 对方不支持二进制编码时可回退到JSON; 调用方已指定的header不覆盖
+     */
+    private static Map<String, String> negotiate(Map<String, String> headerMap, DataFormatEnum format) {
+        Map<String, String> headers = headerMap == null ? new HashMap<>() : new HashMap<>(headerMap);
+        if (headers.keySet().stream().noneMatch("Content-Type"::equalsIgnoreCase)) {
+            headers.put("Content-Type", format.getMediaType());
+        }
+        if (headers.keySet().stream().noneMatch("Accept"::equalsIgnoreCase)) {
+            headers.put("Accept", format == DataFormatEnum.JSON ? format.getMediaType()
+                : format.getMediaType() + ", " + DataFormatEnum.JSON.getMediaType() + ";q=0.9");
+        }
+        return headers;
+    }
+
+    /**
+     * 按响应的Content-Type选择解码器, 未声明时按JSON解析
+     */
+    private static <T> T readObject(HttpResponse<InputStream> response, Class<T> type) throws IOException {
+        InputStream body = successBody(response);
+        if (body == null) {
+            return null;
+        }
+        DataFormatEnum format = DataFormatEnum.ofContentType(response.headers().firstValue("Content-Type").orElse(null));
+        try (body) {
+            return JsonUtils.getCodecs(format).reader(type).readValue(body);
+        }
+    }
+
+    /**
+     * 响应状态不是2xx
+     */
+    public static class HttpStatusException extends IOException {
+
+        private final int statusCode;
+        private final String body;
+
+        public HttpStatusException(int statusCode, String body) {
+            super(MessageFormat.format("请求失败, 状态码:[{0}], 响应:[{1}]", String.valueOf(statusCode), body));
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        /**
+         * 响应体开头的内容, 最多1024字节
+         */
+        public String getBody() {
+            return body;
+        }
+    }
+    //=================================JSON END========================================//
+
     /**
      * 获取Http客户端
      *
@@ -1,46 +1,89 @@
 package cn.trve.framework.web.util;
 
+import cn.trve.framework.web.constant.dict.DatePattern;
+import cn.trve.framework.web.constant.dict.SystemConstant;
+import cn.trve.framework.web.constant.enums.DataFormatEnum;
 import cn.trve.framework.web.exception.BaseRuntimeException;
+import cn.trve.framework.web.json.CanonicalJson;
+import cn.trve.framework.web.json.FastDateDeserializer;
+import cn.trve.framework.web.json.FastDateSerializer;
+import cn.trve.framework.web.json.FastLocalDateTimeDeserializer;
+import cn.trve.framework.web.json.FastLocalDateTimeSerializer;
+import cn.trve.framework.web.json.JacksonCodecs;
+import cn.trve.framework.web.json.JsonDiff;
+import cn.trve.framework.web.json.JsonExtractor;
+import cn.trve.framework.web.json.JsonFieldLocator;
+import cn.trve.framework.web.json.JsonLimits;
+import cn.trve.framework.web.json.JsonLinesSpliterator;
+import cn.trve.framework.web.json.JsonLinesWriter;
+import cn.trve.framework.web.json.JsonPatch;
+import cn.trve.framework.web.json.JsonStreamEditor;
+import cn.trve.framework.web.json.JsonValidator;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.type.CollectionType;
-import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URL;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <pre>
  * <b>Jackson工具类</b>
  * <b>Description:</b>
+ * 内置两套配置相同、只有解析特性不同的ObjectMapper:
+ *   宽松: 开启注释、单引号、无引号字段名等全部宽松解析特性, 用于String、File、URL、InputStream的单值读取(兼容旧用法)
+ *   严格: 标准JSON, 解析时无需检查宽松语法, 用于内部服务间传输的字节数据, 即byte[]/ByteBuffer的读取、
+ *        流式读取(iterator/stream/parallelStream)与 {@link HttpUtils} 的JSON请求
+ * 需要对字节数据宽松解析时使用 {@link #getCodecs()}, 需要对字符串严格解析时使用 {@link #getStrictCodecs()}.
+ * 另有相同配置的Smile、CBOR二进制格式, 通过 {@link #getCodecs(DataFormatEnum)} 获取, 用于内部节点之间的传输.
+ * 启动参数 -Dcn.trve.json.blackbird=true 时所有内置ObjectMapper及spring容器中的ObjectMapper注册Blackbird模块.
  * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
  * <b>Changelog:</b>
  *   Ver   		Date                    Author               	 Detail
@@ -55,7 +98,23 @@ import java.util.Set;
 public class JsonUtils {
 
     private static final org.slf4j.Logger LOGGER = org.slf4j.LoggerFactory.getLogger(JsonUtils.class);
+    /**
+     * 开启Blackbird的系统属性, JsonUtils在Spring环境加载前初始化, 需通过-D或System.setProperty设置
+     */
+    public static final String BLACKBIRD_PROPERTY = SystemConstant.DEFAULT_PROP_KEY_PREFIX + "json.blackbird";
+    private static final boolean BLACKBIRD_ENABLED = Boolean.getBoolean(BLACKBIRD_PROPERTY);
     private static ObjectMapper mapper;
+    private static JacksonCodecs codecs;
+    private static ObjectMapper strictMapper;
+    private static JacksonCodecs strictCodecs;
+    private static ObjectMapper smileMapper;
+    private static JacksonCodecs smileCodecs;
+    private static ObjectMapper cborMapper;
+    private static JacksonCodecs cborCodecs;
+    private static JsonValidator validator;
+    private static CanonicalJson canonicalJson;
+    private static JsonDiff differ;
+    private static JsonDiff strictDiffer;
 
     private static final Set<JsonReadFeature> JSON_READ_FEATURES_ENABLED = Set.of(
         //允许在JSON中使用Java注释
@@ -79,6 +138,17 @@ public class JsonUtils {
         try {
             //初始化
             mapper = initMapper();
+            codecs = new JacksonCodecs(mapper);
+            strictMapper = initStrictMapper();
+            strictCodecs = new JacksonCodecs(strictMapper);
+            smileMapper = initMapperConfig(SmileMapper.builder().build());
+            smileCodecs = new JacksonCodecs(smileMapper);
+            cborMapper = initMapperConfig(CBORMapper.builder().build());
+            cborCodecs = new JacksonCodecs(cborMapper);
+            validator = new JsonValidator(codecs, JsonLimits.UNLIMITED);
+            canonicalJson = new CanonicalJson(mapper);
+            differ = JsonDiff.builder(codecs).build();
+            strictDiffer = JsonDiff.builder(strictCodecs).build();
         } catch (Exception e) {
             LOGGER.error("jackson config error", e);
         }
@@ -90,8 +160,26 @@ public class JsonUtils {
         return initMapperConfig(builder.build());
     }
 
+    /**
+     * 不开启任何宽松解析特性的ObjectMapper, 其余配置与 {@link #initMapper()} 相同
+     */
+    public static ObjectMapper initStrictMapper() {
+        return initMapperConfig(JsonMapper.builder().build());
+    }
+
     public static ObjectMapper initMapperConfig(ObjectMapper objectMapper) {
-        String dateTimeFormat = "yyyy-MM-dd HH:mm:ss";
+        return initMapperConfig(objectMapper, BLACKBIRD_ENABLED);
+    }
+
+    /**
+     * @param objectMapper ObjectMapper
+     * @param blackbird    是否注册 {@link BlackbirdModule}: 为bean属性生成LambdaMetafactory访问器,
+     *                     替代反射调用getter/setter/构造器. 只替换属性的访问方式,
+     *                     注解(@JsonIgnore、@JsonFormat、@JsonSerialize等)的处理不变
+     */
+    public static ObjectMapper initMapperConfig(ObjectMapper objectMapper, boolean blackbird) {
+        String dateTimeFormat = DatePattern.NORM_DATETIME_PATTERN;
+        //Map的Date类型key等仍走DateFormat, 保留原配置
         objectMapper.setDateFormat(new SimpleDateFormat(dateTimeFormat));
         //配置序列化级别
         objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
@@ -101,11 +189,15 @@ public class JsonUtils {
         objectMapper.enable(JsonGenerator.Feature.IGNORE_UNKNOWN);
         //识别Java8时间
         JavaTimeModule javaTimeModule = new JavaTimeModule();
-        javaTimeModule.addSerializer(LocalDateTime.class,
-                new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(dateTimeFormat)))
-            .addDeserializer(LocalDateTime.class,
-                new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(dateTimeFormat)));
+        javaTimeModule.addSerializer(LocalDateTime.class, new FastLocalDateTimeSerializer(dateTimeFormat))
+            .addDeserializer(LocalDateTime.class, new FastLocalDateTimeDeserializer(dateTimeFormat))
+            //Date不再使用SimpleDateFormat(Jackson每次使用都会克隆)
+            .addSerializer(Date.class, new FastDateSerializer(dateTimeFormat))
+            .addDeserializer(Date.class, new FastDateDeserializer(dateTimeFormat));
         objectMapper.registerModule(javaTimeModule);
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
         return objectMapper;
     }
 
@@ -113,6 +205,64 @@ public class JsonUtils {
         return mapper;
     }
 
+    public static ObjectMapper getStrictObjectMapper() {
+        return strictMapper;
+    }
+
+    /**
+     * 宽松解析的reader/writer缓存
+     */
+    public static JacksonCodecs getCodecs() {
+        return codecs;
+    }
+
+    /**
+     * 严格解析的reader/writer缓存
+     */
+    public static JacksonCodecs getStrictCodecs() {
+        return strictCodecs;
+    }
+
+    public static ObjectMapper getSmileObjectMapper() {
+        return smileMapper;
+    }
+
+    public static ObjectMapper getCborObjectMapper() {
+        return cborMapper;
+    }
+
+    /**
+     * 服务间传输使用的reader/writer缓存, JSON为严格模式
+     */
+    public static JacksonCodecs getCodecs(DataFormatEnum format) {
+        return switch (format) {
+            case JSON -> strictCodecs;
+            case SMILE -> smileCodecs;
+            case CBOR -> cborCodecs;
+        };
+    }
+
+    /**
+     * 规范化JSON, POJO按 {@link #getObjectMapper()} 的配置转换
+     */
+    public static CanonicalJson getCanonicalJson() {
+        return canonicalJson;
+    }
+
+    /**
+     * 创建结构比较器, 可设置数组的比较方式. 结果应缓存复用
+     */
+    public static JsonDiff.Builder differ() {
+        return JsonDiff.builder(codecs);
+    }
+
+    /**
+     * 创建多字段提取器, 一次扫描取出多个字段. 编译结果应缓存复用
+     */
+    public static JsonExtractor.Builder extractor() {
+        return JsonExtractor.builder(codecs);
+    }
+
     /**
      * 类型转换
      */
@@ -132,7 +282,7 @@ public class JsonUtils {
      */
     public static <V> V from(URL url, Class<V> type) {
         try {
-            return mapper.readValue(url, type);
+            return codecs.reader(type).readValue(url);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -143,7 +293,7 @@ public class JsonUtils {
      */
     public static <V> V from(URL url, TypeReference<V> type) {
         try {
-            return mapper.readValue(url, type);
+            return codecs.reader(type).readValue(url);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -154,8 +304,7 @@ public class JsonUtils {
      */
     public static <V> List<V> fromList(URL url, Class<V> type) {
         try {
-            CollectionType collectionType = mapper.getTypeFactory().constructCollectionType(ArrayList.class, type);
-            return mapper.readValue(url, collectionType);
+            return codecs.listReader(type).readValue(url);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -166,7 +315,7 @@ public class JsonUtils {
      */
     public static <V> V from(InputStream inputStream, Class<V> type) {
         try {
-            return mapper.readValue(inputStream, type);
+            return codecs.reader(type).readValue(inputStream);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -177,7 +326,7 @@ public class JsonUtils {
      */
     public static <V> V from(InputStream inputStream, TypeReference<V> type) {
         try {
-            return mapper.readValue(inputStream, type);
+            return codecs.reader(type).readValue(inputStream);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -188,19 +337,141 @@ public class JsonUtils {
      */
     public static <V> List<V> fromList(InputStream inputStream, Class<V> type) {
         try {
-            CollectionType collectionType = mapper.getTypeFactory().constructCollectionType(ArrayList.class, type);
-            return mapper.readValue(inputStream, collectionType);
+            return codecs.listReader(type).readValue(inputStream);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 流式读取, 逐个返回根数组的元素或JSON Lines(多个以空白/换行分隔的json)中的每条记录, 内存占用与总数据量无关, 严格解析.
+     * 迭代结束时自动关闭输入流, 提前结束时需调用 {@link MappingIterator#close()}
+     */
+    public static <V> MappingIterator<V> iterator(InputStream inputStream, Class<V> type) {
+        try {
+            return strictCodecs.reader(type).readValues(inputStream);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 流式读取, 见 {@link #iterator(InputStream, Class)}
+     */
+    public static <V> MappingIterator<V> iterator(InputStream inputStream, TypeReference<V> type) {
+        try {
+            return strictCodecs.reader(type).readValues(inputStream);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 流式读取文件, 见 {@link #iterator(InputStream, Class)}
+     */
+    public static <V> MappingIterator<V> iterator(File file, Class<V> type) {
+        try {
+            return strictCodecs.reader(type).readValues(file);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 流式读取URL, 见 {@link #iterator(InputStream, Class)}
+     */
+    public static <V> MappingIterator<V> iterator(URL url, Class<V> type) {
+        try {
+            return strictCodecs.reader(type).readValues(url);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
     }
 
+    /**
+     * 流式读取为Stream, 见 {@link #iterator(InputStream, Class)}.
+     * 应在try-with-resources中使用, 关闭Stream时关闭输入流, 可随时提前结束
+     */
+    public static <V> Stream<V> stream(InputStream inputStream, Class<V> type) {
+        return stream(iterator(inputStream, type));
+    }
+
+    /**
+     * 流式读取为Stream, 见 {@link #stream(InputStream, Class)}
+     */
+    public static <V> Stream<V> stream(InputStream inputStream, TypeReference<V> type) {
+        return stream(iterator(inputStream, type));
+    }
+
+    /**
+     * 流式读取文件为Stream, 见 {@link #stream(InputStream, Class)}
+     */
+    public static <V> Stream<V> stream(File file, Class<V> type) {
+        return stream(iterator(file, type));
+    }
+
+    /**
+     * 流式读取URL为Stream, 见 {@link #stream(InputStream, Class)}
+     */
+    public static <V> Stream<V> stream(URL url, Class<V> type) {
+        return stream(iterator(url, type));
+    }
+
+    /**
+     * 并行读取JSON Lines文件, 按内存映射分片在换行处拆分, 由并行流在ForkJoinPool上解析, 保持文件中的顺序.
+     * 应在try-with-resources中使用; 需要指定线程池时在自定义ForkJoinPool中执行终端操作
+     */
+    public static <V> Stream<V> parallelStream(Path path, Class<V> type) {
+        return parallelStream(path, type, true);
+    }
+
+    /**
+     * 并行读取JSON Lines文件, 见 {@link #parallelStream(Path, Class)}
+     *
+     * @param ordered 为false时不保证顺序, 无序的终端操作可以减少合并开销
+     */
+    public static <V> Stream<V> parallelStream(Path path, Class<V> type, boolean ordered) {
+        FileChannel channel;
+        JsonLinesSpliterator<V> spliterator;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+        try {
+            spliterator = new JsonLinesSpliterator<>(channel, strictCodecs.reader(type), ordered);
+        } catch (IOException e) {
+            closeChannel(channel);
+            throw new BaseRuntimeException(e.getMessage());
+        }
+        return StreamSupport.stream(spliterator, true).onClose(() -> closeChannel(channel));
+    }
+
+    private static void closeChannel(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    private static <V> Stream<V> stream(MappingIterator<V> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+            .onClose(() -> {
+                try {
+                    iterator.close();
+                } catch (IOException e) {
+                    throw new BaseRuntimeException(e.getMessage());
+                }
+            });
+    }
+
     /**
      * JSON反序列化
      */
     public static <V> V from(File file, Class<V> type) {
         try {
-            return mapper.readValue(file, type);
+            return codecs.reader(type).readValue(file);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -211,7 +482,7 @@ public class JsonUtils {
      */
     public static <V> V from(File file, TypeReference<V> type) {
         try {
-            return mapper.readValue(file, type);
+            return codecs.reader(type).readValue(file);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -222,8 +493,7 @@ public class JsonUtils {
      */
     public static <V> List<V> fromList(File file, Class<V> type) {
         try {
-            CollectionType collectionType = mapper.getTypeFactory().constructCollectionType(ArrayList.class, type);
-            return mapper.readValue(file, collectionType);
+            return codecs.listReader(type).readValue(file);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -251,8 +521,7 @@ public class JsonUtils {
             return null;
         }
         try {
-            JavaType javaType = mapper.getTypeFactory().constructType(type);
-            return mapper.readValue(json, javaType);
+            return codecs.reader(type).readValue(json);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -266,8 +535,7 @@ public class JsonUtils {
             return null;
         }
         try {
-            CollectionType collectionType = mapper.getTypeFactory().constructCollectionType(ArrayList.class, type);
-            return mapper.readValue(json, collectionType);
+            return codecs.listReader(type).readValue(json);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -281,8 +549,109 @@ public class JsonUtils {
             return null;
         }
         try {
-            MapType mapType = mapper.getTypeFactory().constructMapType(HashMap.class, String.class, Object.class);
-            return mapper.readValue(json, mapType);
+            return codecs.mapReader().readValue(json);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * JSON反序列化(UTF-8字节)
+     */
+    public static <V> V from(byte[] json, Class<V> type) {
+        return from(json, (Type)type);
+    }
+
+    /**
+     * JSON反序列化(UTF-8字节)
+     */
+    public static <V> V from(byte[] json, TypeReference<V> type) {
+        return from(json, type.getType());
+    }
+
+    /**
+     * JSON反序列化(UTF-8字节)
+     */
+    public static <V> V from(byte[] json, Type type) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try {
+            return strictCodecs.reader(type).readValue(json);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 按指定格式反序列化
+     */
+    public static <V> V from(byte[] data, Type type, DataFormatEnum format) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+        try {
+            return getCodecs(format).reader(type).readValue(data);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * JSON反序列化（List，UTF-8字节）
+     */
+    public static <V> List<V> fromList(byte[] json, Class<V> type) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try {
+            return strictCodecs.listReader(type).readValue(json);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * JSON反序列化（Map，UTF-8字节）
+     */
+    public static Map<String, Object> fromMap(byte[] json) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try {
+            return strictCodecs.mapReader().readValue(json);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * JSON反序列化, 读取position到limit之间的UTF-8字节, 不改变buffer的position
+     */
+    public static <V> V from(ByteBuffer json, Class<V> type) {
+        return from(json, (Type)type);
+    }
+
+    /**
+     * JSON反序列化, 读取position到limit之间的UTF-8字节, 不改变buffer的position
+     */
+    public static <V> V from(ByteBuffer json, TypeReference<V> type) {
+        return from(json, type.getType());
+    }
+
+    /**
+     * JSON反序列化, 读取position到limit之间的UTF-8字节, 不改变buffer的position
+     */
+    public static <V> V from(ByteBuffer json, Type type) {
+        if (json == null || !json.hasRemaining()) {
+            return null;
+        }
+        ObjectReader reader = strictCodecs.reader(type);
+        try {
+            if (json.hasArray()) {
+                return reader.readValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+            }
+            return reader.readValue(new ByteBufferBackedInputStream(json.duplicate()));
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -293,7 +662,7 @@ public class JsonUtils {
      */
     public static <V> String to(List<V> list) {
         try {
-            return mapper.writeValueAsString(list);
+            return codecs.writerFor(list).writeValueAsString(list);
         } catch (JsonProcessingException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -304,34 +673,122 @@ public class JsonUtils {
      */
     public static <V> String to(V v) {
         try {
-            return mapper.writeValueAsString(v);
+            return codecs.writerFor(v).writeValueAsString(v);
         } catch (JsonProcessingException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
     }
 
     /**
-     * 序列化为JSON
+     * 序列化为UTF-8字节, 内部缓冲区由Jackson按线程回收复用
+     */
+    public static <V> byte[] toBytes(V v) {
+        try {
+            return codecs.writerFor(v).writeValueAsBytes(v);
+        } catch (JsonProcessingException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 按指定格式序列化
+     */
+    public static <V> byte[] toBytes(V v, DataFormatEnum format) {
+        try {
+            return getCodecs(format).writerFor(v).writeValueAsBytes(v);
+        } catch (JsonProcessingException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 规范化序列化: 字段排序、数字规范化、无空白, 相同内容得到相同的json串
+     */
+    public static <V> String toCanonical(V v) {
+        return canonicalJson.toString(v);
+    }
+
+    /**
+     * 规范化序列化为UTF-8字节
+     */
+    public static <V> byte[] toCanonicalBytes(V v) {
+        return canonicalJson.toBytes(v);
+    }
+
+    /**
+     * 规范化内容的SHA-256(十六进制), 不生成规范化的中间字符串, 可用作缓存键
+     */
+    public static <V> String contentHash(V v) {
+        return canonicalJson.sha256Hex(v);
+    }
+
+    /**
+     * 序列化为UTF-8字节写入输出流, 不关闭输出流
+     */
+    public static <V> void to(V v, OutputStream out) {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            codecs.writerFor(v).writeValue(generator, v);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    /**
+     * 序列化为UTF-8字节写入调用方提供的缓冲区(可以是池化复用的缓冲区), 从position开始写, 写完后position后移.
+     * 任何失败都会把position恢复为调用前的位置, position之后可能残留部分已写入的字节
+     *
+     * @return 写入的字节数
+     * @throws BufferOverflowException 剩余空间不足, 无论溢出发生在序列化过程中还是最后刷出时
+     */
+    public static <V> int to(V v, ByteBuffer buffer) {
+        int start = buffer.position();
+        try (JsonGenerator generator = mapper.getFactory()
+                .createGenerator(new ByteBufferBackedOutputStream(buffer), JsonEncoding.UTF8)) {
+            codecs.writerFor(v).writeValue(generator, v);
+            //在try内刷出, 最后一段溢出时也能按溢出处理
+            generator.flush();
+        } catch (IOException | RuntimeException e) {
+            buffer.position(start);
+            //超过Jackson输出缓冲区的报文在序列化过程中溢出, 会被包装为JsonMappingException
+            BufferOverflowException overflow = ExceptionUtils.throwableOfType(e, BufferOverflowException.class);
+            if (overflow != null) {
+                throw overflow;
+            }
+            throw e instanceof RuntimeException runtime ? runtime : new BaseRuntimeException(e.getMessage());
+        }
+        return buffer.position() - start;
+    }
+
+    /**
+     * 序列化为JSON, 每次调用都会打开、关闭文件. 持续追加写入请使用 {@link #jsonLinesWriter(Path)}
      */
     public static <V> void toFile(String path, List<V> list) {
         try (Writer writer = new FileWriter(new File(path), true)) {
-            mapper.writer().writeValues(writer).writeAll(list);
+            codecs.writer().writeValues(writer).writeAll(list);
         } catch (Exception e) {
             throw new BaseRuntimeException(e.getMessage());
         }
     }
 
     /**
-     * 序列化为JSON
+     * 序列化为JSON, 每次调用都会打开、关闭文件. 持续追加写入请使用 {@link #jsonLinesWriter(Path)}
      */
     public static <V> void toFile(String path, V v) {
         try (Writer writer = new FileWriter(new File(path), true)) {
-            mapper.writer().writeValues(writer).write(v);
+            codecs.writer().writeValues(writer).write(v);
         } catch (Exception e) {
             throw new BaseRuntimeException(e.getMessage());
         }
     }
 
+    /**
+     * 创建JSON Lines文件写入器, 序列化配置与本类相同. 写入器应长期持有, 用完后关闭
+     */
+    public static JsonLinesWriter.Builder jsonLinesWriter(Path path) {
+        return JsonLinesWriter.builder(path).codecs(codecs);
+    }
+
     /**
      * 从json串中获取某个字段
      *
@@ -352,6 +809,17 @@ public class JsonUtils {
         }
     }
 
+    /**
+     * 文本节点按其内容解析(兼容字段值是JSON字符串的情况), 其他节点直接绑定, 不再序列化后重新解析
+     */
+    private static <V> V readNode(JsonNode jsonNode, ObjectReader reader) throws IOException {
+        if (jsonNode.isTextual()) {
+            String text = jsonNode.textValue();
+            return text.isEmpty() ? null : reader.readValue(text);
+        }
+        return reader.readValue(jsonNode);
+    }
+
     private static String getAsString(JsonNode jsonNode) {
         return jsonNode.isTextual() ? jsonNode.textValue() : jsonNode.toString();
     }
@@ -515,8 +983,7 @@ public class JsonUtils {
             if (null == jsonNode) {
                 return null;
             }
-            JavaType javaType = mapper.getTypeFactory().constructType(type);
-            return from(getAsString(jsonNode), javaType);
+            return readNode(jsonNode, codecs.reader(type));
         } catch (Exception e) {
             throw new BaseRuntimeException(e.getMessage());
         }
@@ -536,72 +1003,63 @@ public class JsonUtils {
             if (null == jsonNode) {
                 return null;
             }
-            CollectionType collectionType = mapper.getTypeFactory().constructCollectionType(ArrayList.class, type);
-            return from(getAsString(jsonNode), collectionType);
+            return readNode(jsonNode, codecs.listReader(type));
         } catch (Exception e) {
             throw new BaseRuntimeException(e.getMessage());
         }
     }
 
     /**
-     * 从json串中获取某个字段
+     * 从json串中获取某个字段, 流式定位到字段后只读取该字段的值, 不解析整个json.
+     * key支持JSON Pointer(/a/0/b)与点分路径(a.0.b), 见 {@link JsonFieldLocator}
      *
      * @return JsonNode, 默认为 null
      */
     public static JsonNode getAsJsonObject(String json, String key) {
-        try {
-            JsonNode node = mapper.readTree(json);
-            if (null == node) {
-                return null;
-            }
-            return node.get(key);
+        if (StringUtils.isEmpty(json)) {
+            return null;
+        }
+        try (JsonParser parser = codecs.treeReader().createParser(json)) {
+            return readAt(parser, key);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
     }
 
     /**
-     * 向json中添加属性
+     * 从json字节中获取某个字段, 与 {@link #getAsJsonObject(String, String)} 相同
      *
-     * @return json
+     * @return JsonNode, 默认为 null
      */
-    public static <V> String add(String json, String key, V value) {
-        try {
-            JsonNode node = mapper.readTree(json);
-            add(node, key, value);
-            return node.toString();
+    public static JsonNode getAsJsonObject(byte[] json, String key) {
+        if (json == null || json.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = strictCodecs.treeReader().createParser(json)) {
+            return readAt(parser, key);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
     }
 
+    private static JsonNode readAt(JsonParser parser, String key) throws IOException {
+        if (!JsonFieldLocator.compile(key).locate(parser)) {
+            return null;
+        }
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return NullNode.getInstance();
+        }
+        return codecs.treeReader().readTree(parser);
+    }
+
     /**
-     * 向json中添加属性
+     * 向json中添加属性, 已存在时原位替换. 流式改写, 不构建整棵树
+     *
+     * @return json
      */
-    private static <V> void add(JsonNode jsonNode, String key, V value) {
-        if (value instanceof String) {
-            ((ObjectNode)jsonNode).put(key, (String)value);
-        } else if (value instanceof Short) {
-            ((ObjectNode)jsonNode).put(key, (Short)value);
-        } else if (value instanceof Integer) {
-            ((ObjectNode)jsonNode).put(key, (Integer)value);
-        } else if (value instanceof Long) {
-            ((ObjectNode)jsonNode).put(key, (Long)value);
-        } else if (value instanceof Float) {
-            ((ObjectNode)jsonNode).put(key, (Float)value);
-        } else if (value instanceof Double) {
-            ((ObjectNode)jsonNode).put(key, (Double)value);
-        } else if (value instanceof BigDecimal) {
-            ((ObjectNode)jsonNode).put(key, (BigDecimal)value);
-        } else if (value instanceof BigInteger) {
-            ((ObjectNode)jsonNode).put(key, (BigInteger)value);
-        } else if (value instanceof Boolean) {
-            ((ObjectNode)jsonNode).put(key, (Boolean)value);
-        } else if (value instanceof byte[]) {
-            ((ObjectNode)jsonNode).put(key, (byte[])value);
-        } else {
-            ((ObjectNode)jsonNode).put(key, to(value));
-        }
+    public static <V> String add(String json, String key, V value) {
+        JsonNode node = valueNode(value);
+        return rewrite(json, (parser, generator) -> JsonStreamEditor.put(parser, generator, key, node, true));
     }
 
     /**
@@ -610,27 +1068,204 @@ public class JsonUtils {
      * @return json
      */
     public static String remove(String json, String key) {
+        return rewrite(json, (parser, generator) -> JsonStreamEditor.remove(parser, generator, key));
+    }
+
+    /**
+     * 修改json中的属性, 字段保留在原位置, 不存在时追加到末尾
+     */
+    public static <V> String update(String json, String key, V value) {
+        return add(json, key, value);
+    }
+
+    /**
+     * 向json字节中添加属性, 已存在时原位替换
+     *
+     * @return json字节
+     */
+    public static <V> byte[] add(byte[] json, String key, V value) {
+        JsonNode node = valueNode(value);
+        return rewrite(json, (parser, generator) -> JsonStreamEditor.put(parser, generator, key, node, true));
+    }
+
+    /**
+     * 除去json字节中的某个属性
+     *
+     * @return json字节
+     */
+    public static byte[] remove(byte[] json, String key) {
+        return rewrite(json, (parser, generator) -> JsonStreamEditor.remove(parser, generator, key));
+    }
+
+    /**
+     * 修改json字节中的属性, 字段保留在原位置, 不存在时追加到末尾
+     */
+    public static <V> byte[] update(byte[] json, String key, V value) {
+        return add(json, key, value);
+    }
+
+    /**
+     * 按JSON Merge Patch(RFC 7396)合并, 目标文档流式处理
+     *
+     * @param patch 合并补丁, null字段表示删除
+     * @return json
+     */
+    public static String mergePatch(String json, String patch) {
+        JsonNode node = readTree(patch);
+        return rewrite(json, (parser, generator) -> JsonStreamEditor.mergePatch(parser, generator, node));
+    }
+
+    /**
+     * 按JSON Merge Patch(RFC 7396)合并, 目标文档流式处理
+     *
+     * @return json字节
+     */
+    public static byte[] mergePatch(byte[] json, byte[] patch) {
+        JsonNode node;
         try {
-            JsonNode node = mapper.readTree(json);
-            ((ObjectNode)node).remove(key);
-            return node.toString();
+            node = strictCodecs.treeReader().readTree(patch);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
+        return rewrite(json, (parser, generator) -> JsonStreamEditor.mergePatch(parser, generator, node));
     }
 
     /**
-     * 修改json中的属性
+     * 执行JSON Patch(RFC 6902)
+     *
+     * @param patch 操作数组
+     * @return json
      */
-    public static <V> String update(String json, String key, V value) {
+    public static String patch(String json, String patch) {
+        return JsonPatch.apply(readTree(json), readTree(patch)).toString();
+    }
+
+    /**
+     * 执行JSON Patch(RFC 6902)
+     *
+     * @return json字节
+     */
+    public static byte[] patch(byte[] json, byte[] patch) {
+        try {
+            JsonNode node = JsonPatch.apply(strictCodecs.treeReader().readTree(json),
+                strictCodecs.treeReader().readTree(patch));
+            return codecs.writer().writeValueAsBytes(node);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+    }
+
+    private static JsonNode readTree(String json) {
+        JsonNode node;
         try {
-            JsonNode node = mapper.readTree(json);
-            ((ObjectNode)node).remove(key);
-            add(node, key, value);
-            return node.toString();
+            node = codecs.treeReader().readTree(json);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
+        if (node == null || node.isMissingNode()) {
+            throw new BaseRuntimeException("json为空");
+        }
+        return node;
+    }
+
+    /**
+     * 按原有规则将值转为JsonNode: 基本类型、字符串与byte[]直接写入, 其他对象序列化为json字符串
+     */
+    private static <V> JsonNode valueNode(V value) {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        if (value instanceof String v) {
+            return factory.textNode(v);
+        } else if (value instanceof Short v) {
+            return factory.numberNode(v);
+        } else if (value instanceof Integer v) {
+            return factory.numberNode(v);
+        } else if (value instanceof Long v) {
+            return factory.numberNode(v);
+        } else if (value instanceof Float v) {
+            return factory.numberNode(v);
+        } else if (value instanceof Double v) {
+            return factory.numberNode(v);
+        } else if (value instanceof BigDecimal v) {
+            return factory.numberNode(v);
+        } else if (value instanceof BigInteger v) {
+            return factory.numberNode(v);
+        } else if (value instanceof Boolean v) {
+            return factory.booleanNode(v);
+        } else if (value instanceof byte[] v) {
+            return factory.binaryNode(v);
+        }
+        return factory.textNode(to(value));
+    }
+
+    /**
+     * 流式改写字符串, 输入按宽松模式解析
+     */
+    private static String rewrite(String json, TokenRewriter rewriter) {
+        if (StringUtils.isEmpty(json)) {
+            throw new BaseRuntimeException("json为空");
+        }
+        StringWriter writer = new StringWriter(json.length() + 64);
+        try (JsonParser parser = codecs.treeReader().createParser(json);
+             JsonGenerator generator = codecs.getMapper().createGenerator(writer)) {
+            rewriter.rewrite(parser, generator);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+        return writer.toString();
+    }
+
+    /**
+     * 流式改写UTF-8字节, 输入按严格模式解析
+     */
+    private static byte[] rewrite(byte[] json, TokenRewriter rewriter) {
+        if (json == null || json.length == 0) {
+            throw new BaseRuntimeException("json为空");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length + 64);
+        try (JsonParser parser = strictCodecs.treeReader().createParser(json);
+             JsonGenerator generator = codecs.getMapper().createGenerator(out, JsonEncoding.UTF8)) {
+            rewriter.rewrite(parser, generator);
+        } catch (IOException e) {
+            throw new BaseRuntimeException(e.getMessage());
+        }
+        return out.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface TokenRewriter {
+        void rewrite(JsonParser parser, JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * 同时遍历两个json串比较结构, 字段顺序不影响结果
+     *
+     * @return 把source变为target的JSON Patch(RFC 6902), 相同时为空数组
+     */
+    public static ArrayNode diff(String source, String target) {
+        return differ.diff(source, target);
+    }
+
+    /**
+     * 同时遍历两个json字节比较结构(严格模式)
+     *
+     * @return 把source变为target的JSON Patch(RFC 6902), 相同时为空数组
+     */
+    public static ArrayNode diff(byte[] source, byte[] target) {
+        return strictDiffer.diff(source, target);
+    }
+
+    /**
+     * 两个json串的内容是否相同, 字段顺序与数字写法(1与1.0)不影响结果, 遇到第一个差异即返回
+     */
+    public static boolean isEqual(String a, String b) {
+        return differ.equal(a, b);
+    }
+
+    /**
+     * 两个json字节的内容是否相同(严格模式), 遇到第一个差异即返回
+     */
+    public static boolean isEqual(byte[] a, byte[] b) {
+        return strictDiffer.equal(a, b);
     }
 
     /**
@@ -640,25 +1275,45 @@ public class JsonUtils {
      */
     public static String format(String json) {
         try {
-            JsonNode node = mapper.readTree(json);
-            return mapper.writerWithDefaultPrettyPrinter().writeValueAsString(node);
+            JsonNode node = codecs.treeReader().readTree(json);
+            return codecs.prettyWriter().writeValueAsString(node);
         } catch (IOException e) {
             throw new BaseRuntimeException(e.getMessage());
         }
     }
 
     /**
-     * 判断字符串是否是json
+     * 判断字符串是否是json, 只遍历token不构建树, 不限制结构; 需要限制时使用 {@link #isJson(String, JsonLimits)}
      *
      * @return json
      */
     public static boolean isJson(String json) {
-        try {
-            mapper.readTree(json);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return validator.isValid(json);
+    }
+
+    /**
+     * 判断字符串是否是json, 按指定的限制校验结构
+     */
+    public static boolean isJson(String json, JsonLimits limits) {
+        return validate(json, limits) == null;
+    }
+
+    /**
+     * 流式校验json串(宽松模式)
+     *
+     * @return 通过时返回null, 否则返回原因与位置
+     */
+    public static JsonValidator.Violation validate(String json, JsonLimits limits) {
+        return new JsonValidator(codecs, limits).validate(json);
+    }
+
+    /**
+     * 流式校验json字节(严格模式)
+     *
+     * @return 通过时返回null, 否则返回原因与位置
+     */
+    public static JsonValidator.Violation validate(byte[] json, JsonLimits limits) {
+        return new JsonValidator(strictCodecs, limits).validate(json);
     }
 
 }
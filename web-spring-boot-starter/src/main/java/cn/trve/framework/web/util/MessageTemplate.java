@@ -0,0 +1,173 @@
+package cn.trve.framework.web.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * <b>消息模板</b>
+ * <b>Description:</b>
+ * 预先将模板按占位符{}切分成片段, 格式化时只需按片段顺序追加, 不用每次重新扫描模板.
+ * 转义规则与slf4j一致: \{} 表示字面量{}, \\{} 表示字面量\后接占位符.
+ * 参数不足时保留{}, 多余的参数忽略, 数组参数按元素展开.
+ * 编译结果按模板缓存, 缓存有上限, 满了以后新的模板不再缓存.
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 17:30    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public final class MessageTemplate {
+
+    private static final String PLACEHOLDER = "{}";
+    private static final char ESCAPE = '\\';
+    private static final int MAX_CACHE_SIZE = 2048;
+    /**
+     * 每个参数预估的长度
+     */
+    private static final int ARG_SIZE_HINT = 16;
+    private static final Map<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String[] segments;
+    private final int literalLength;
+
+    private MessageTemplate(String[] segments) {
+        this.segments = segments;
+        int length = 0;
+        for (String segment : segments) {
+            length += segment.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 获取编译后的模板, 优先从缓存获取
+     *
+     * @param pattern 模板, 不能为null
+     * @return 编译后的模板
+     */
+    public static MessageTemplate compile(String pattern) {
+        MessageTemplate template = CACHE.get(pattern);
+        if (template == null) {
+            template = parse(pattern);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(pattern, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * 格式化消息
+     *
+     * @param pattern 模板，变量用{}代替
+     * @param args    参数列表
+     * @return 格式化后的消息, 模板为null时返回null
+     */
+    public static String format(String pattern, Object... args) {
+        if (pattern == null) {
+            return null;
+        }
+        return compile(pattern).format(args);
+    }
+
+    /**
+     * 占位符数量
+     *
+     * @return 占位符数量
+     */
+    public int placeholders() {
+        return segments.length - 1;
+    }
+
+    /**
+     * 格式化消息
+     *
+     * @param args 参数列表
+     * @return 格式化后的消息
+     */
+    public String format(Object... args) {
+        int placeholders = segments.length - 1;
+        if (placeholders == 0) {
+            return segments[0];
+        }
+        StringBuilder builder = new StringBuilder(literalLength + placeholders * ARG_SIZE_HINT);
+        builder.append(segments[0]);
+        for (int i = 0; i < placeholders; i++) {
+            if (args != null && i < args.length) {
+                appendArg(builder, args[i]);
+            } else {
+                builder.append(PLACEHOLDER);
+            }
+            builder.append(segments[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    private static MessageTemplate parse(String pattern) {
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        int length = pattern.length();
+        int i = 0;
+        while (i < length) {
+            char c = pattern.charAt(i);
+            if (c == '{' && i + 1 < length && pattern.charAt(i + 1) == '}') {
+                boolean escaped = i > 0 && pattern.charAt(i - 1) == ESCAPE;
+                boolean doubleEscaped = escaped && i > 1 && pattern.charAt(i - 2) == ESCAPE;
+                if (escaped) {
+                    //去掉转义符
+                    segment.setLength(segment.length() - 1);
+                }
+                if (escaped && !doubleEscaped) {
+                    segment.append(PLACEHOLDER);
+                } else {
+                    segments.add(segment.toString());
+                    segment.setLength(0);
+                }
+                i += 2;
+            } else {
+                segment.append(c);
+                i++;
+            }
+        }
+        segments.add(segment.toString());
+        return new MessageTemplate(segments.toArray(new String[0]));
+    }
+
+    private static void appendArg(StringBuilder builder, Object arg) {
+        if (arg == null) {
+            builder.append("null");
+        } else if (!arg.getClass().isArray()) {
+            try {
+                builder.append(arg);
+            } catch (Exception e) {
+                builder.append("[FAILED toString()]");
+            }
+        } else if (arg instanceof Object[] array) {
+            builder.append(Arrays.deepToString(array));
+        } else if (arg instanceof int[] array) {
+            builder.append(Arrays.toString(array));
+        } else if (arg instanceof long[] array) {
+            builder.append(Arrays.toString(array));
+        } else if (arg instanceof byte[] array) {
+            builder.append(Arrays.toString(array));
+        } else if (arg instanceof short[] array) {
+            builder.append(Arrays.toString(array));
+        } else if (arg instanceof char[] array) {
+            builder.append(Arrays.toString(array));
+        } else if (arg instanceof boolean[] array) {
+            builder.append(Arrays.toString(array));
+        } else if (arg instanceof float[] array) {
+            builder.append(Arrays.toString(array));
+        } else if (arg instanceof double[] array) {
+            builder.append(Arrays.toString(array));
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package cn.trve.framework.web.util;
 
-import org.slf4j.helpers.MessageFormatter;
-
 /**
  * <pre>
  * <b>字符串工具类</b>
@@ -17,7 +15,12 @@ import org.slf4j.helpers.MessageFormatter;
  * @since 2023/4/13
  */
 public class StringUtils extends org.apache.commons.lang3.StringUtils {
+    /**
+     * 格式化消息，变量用{}代替
+     *
+     * @see MessageTemplate
+     */
     public static String format(String messagePattern, Object... args) {
-        return MessageFormatter.format(messagePattern, args).getMessage();
+        return MessageTemplate.format(messagePattern, args);
     }
 }
@@ -0,0 +1,296 @@
+package cn.trve.framework.web.util;
+
+import cn.trve.framework.web.model.Result;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * <pre>
+ * <b>校验错误收集器</b>
+ * <b>Description:</b>
+ * 与 {@link AssertUtils} 对应的不抛异常版本, 用于批量数据校验.
+ * 校验失败只记录字段、消息模板和参数, 不创建异常也不拼接消息, 最后一次性转换为 {@link Result}.
+ * 内部使用可复用的数组, 调用 {@link #reset()} 后可以继续使用. 非线程安全.
+ *
+ * Violations violations = Violations.create();
+ * for (int i = 0; i &lt; items.size(); i++) {
+ *     violations.at(i).notBlank(items.get(i).getName(), "name", "名称不能为空");
+ * }
+ * if (violations.hasErrors()) {
+ *     return violations.toResult();
+ * }
+ * <b>Copyright:</b> Copyright 2023 Wangtao. All rights reserved.
+ * <b>Changelog:</b>
+ *   Ver   		Date                    Author               	 Detail
+ *   ----------------------------------------------------------------------
+ *   1.0   2026/10/19 16:10    Wangtao     new file.
+ * </pre>
+ *
+ * @author Wangtao
+ * @since 2026/10/19
+ */
+public class Violations {
+
+    /**
+     * 默认最多记录的错误数
+     */
+    public static final int DEFAULT_MAX_VIOLATIONS = 1000;
+
+    /**
+     * 汇总信息中最多包含的错误数
+     */
+    private static final int SUMMARY_SIZE = 10;
+
+    private static final int NO_INDEX = -1;
+
+    private final int maxViolations;
+
+    private int[] indexes;
+    private String[] fields;
+    private String[] templates;
+    private Object[][] params;
+    private int size;
+    private int dropped;
+    private int currentIndex = NO_INDEX;
+
+    private Violations(int maxViolations) {
+        this.maxViolations = maxViolations;
+        int capacity = Math.min(16, maxViolations);
+        this.indexes = new int[capacity];
+        this.fields = new String[capacity];
+        this.templates = new String[capacity];
+        this.params = new Object[capacity][];
+    }
+
+    public static Violations create() {
+        return new Violations(DEFAULT_MAX_VIOLATIONS);
+    }
+
+    /**
+     * @param maxViolations 最多记录的错误数, 超出的只计数
+     */
+    public static Violations create(int maxViolations) {
+        return new Violations(maxViolations);
+    }
+
+    /**
+     * 设置后续校验对应的数据下标
+     *
+     * @param index 下标
+     * @return this
+     */
+    public Violations at(int index) {
+        currentIndex = index;
+        return this;
+    }
+
+    //<editor-fold desc="校验">
+
+    /**
+     * 断言是否为真
+     *
+     * @return 校验是否通过
+     */
+    public boolean isTrue(boolean expression, String field, String errorMsgTemplate, Object... params) {
+        if (!expression) {
+            reject(field, errorMsgTemplate, params);
+        }
+        return expression;
+    }
+
+    /**
+     * 断言是否为假
+     *
+     * @return 校验是否通过
+     */
+    public boolean isFalse(boolean expression, String field, String errorMsgTemplate, Object... params) {
+        return isTrue(!expression, field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 断言对象为null
+     *
+     * @return 校验是否通过
+     */
+    public boolean isNull(Object object, String field, String errorMsgTemplate, Object... params) {
+        return isTrue(null == object, field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 断言对象不为null
+     *
+     * @return 校验是否通过
+     */
+    public boolean notNull(Object object, String field, String errorMsgTemplate, Object... params) {
+        return isTrue(null != object, field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 断言字符串非空
+     *
+     * @return 校验是否通过
+     */
+    public boolean notEmpty(CharSequence text, String field, String errorMsgTemplate, Object... params) {
+        return isTrue(StringUtils.isNotEmpty(text), field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 断言字符串非空白
+     *
+     * @return 校验是否通过
+     */
+    public boolean notBlank(CharSequence text, String field, String errorMsgTemplate, Object... params) {
+        return isTrue(StringUtils.isNotBlank(text), field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 断言集合非空
+     *
+     * @return 校验是否通过
+     */
+    public boolean notEmpty(Collection<?> collection, String field, String errorMsgTemplate, Object... params) {
+        return isTrue(CollectionUtils.isNotEmpty(collection), field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 断言Map非空
+     *
+     * @return 校验是否通过
+     */
+    public boolean notEmpty(Map<?, ?> map, String field, String errorMsgTemplate, Object... params) {
+        return isTrue(MapUtils.isNotEmpty(map), field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 断言两个对象相等
+     *
+     * @return 校验是否通过
+     */
+    public boolean equals(Object obj1, Object obj2, String field, String errorMsgTemplate, Object... params) {
+        return isTrue(Objects.equals(obj1, obj2), field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 检查值是否在指定范围内(包含边界)
+     *
+     * @return 校验是否通过
+     */
+    public boolean checkBetween(long value, long min, long max, String field, String errorMsgTemplate,
+            Object... params) {
+        return isTrue(value >= min && value <= max, field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 检查值是否在指定范围内(包含边界)
+     *
+     * @return 校验是否通过
+     */
+    public boolean checkBetween(double value, double min, double max, String field, String errorMsgTemplate,
+            Object... params) {
+        return isTrue(value >= min && value <= max, field, errorMsgTemplate, params);
+    }
+
+    /**
+     * 直接记录一条错误
+     *
+     * @param field            字段
+     * @param errorMsgTemplate 消息模板，变量用{}代替
+     * @param params           参数列表
+     */
+    public void reject(String field, String errorMsgTemplate, Object... params) {
+        if (size == maxViolations) {
+            dropped++;
+            return;
+        }
+        if (size == indexes.length) {
+            int capacity = Math.min(size << 1, maxViolations);
+            indexes = Arrays.copyOf(indexes, capacity);
+            fields = Arrays.copyOf(fields, capacity);
+            templates = Arrays.copyOf(templates, capacity);
+            this.params = Arrays.copyOf(this.params, capacity);
+        }
+        indexes[size] = currentIndex;
+        fields[size] = field;
+        templates[size] = errorMsgTemplate;
+        this.params[size] = params;
+        size++;
+    }
+    //</editor-fold>
+
+    public boolean hasErrors() {
+        return size > 0;
+    }
+
+    /**
+     * 错误总数, 包括超出上限未记录的
+     *
+     * @return 错误总数
+     */
+    public int count() {
+        return size + dropped;
+    }
+
+    /**
+     * 清空错误, 保留已分配的空间
+     */
+    public void reset() {
+        Arrays.fill(fields, 0, size, null);
+        Arrays.fill(templates, 0, size, null);
+        Arrays.fill(params, 0, size, null);
+        size = 0;
+        dropped = 0;
+        currentIndex = NO_INDEX;
+    }
+
+    /**
+     * 生成错误列表, 此时才格式化消息
+     *
+     * @return 错误列表
+     */
+    public List<Violation> toList() {
+        List<Violation> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new Violation(indexes[i] == NO_INDEX ? null : indexes[i], fields[i],
+                    StringUtils.format(templates[i], params[i])));
+        }
+        return list;
+    }
+
+    /**
+     * 转换为 {@link Result.Status#BAD_REQUEST} 的失败结果, data为完整的错误列表
+     *
+     * @return 失败结果
+     */
+    public Result<List<Violation>> toResult() {
+        List<Violation> list = toList();
+        StringBuilder reason = new StringBuilder();
+        int summarySize = Math.min(SUMMARY_SIZE, list.size());
+        for (int i = 0; i < summarySize; i++) {
+            if (i > 0) {
+                reason.append(',');
+            }
+            reason.append(list.get(i).message());
+        }
+        if (count() > summarySize) {
+            reason.append("等").append(count()).append("项错误");
+        }
+        return Result.fail(Result.Status.BAD_REQUEST, reason.toString(), list);
+    }
+
+    /**
+     * 校验错误
+     *
+     * @param index   数据下标, 未指定时为null
+     * @param field   字段
+     * @param message 错误信息
+     */
+    public record Violation(Integer index, String field, String message) {
+    }
+}
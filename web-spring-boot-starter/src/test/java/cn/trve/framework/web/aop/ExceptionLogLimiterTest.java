@@ -0,0 +1,103 @@
+package cn.trve.framework.web.aop;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import cn.trve.framework.web.constant.enums.LogLevelEnum;
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import cn.trve.framework.web.exception.ExceptionFingerprint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExceptionLogLimiterTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(WebExceptionHandler.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attach() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void detach() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void keyIgnoresStackAndVariables() {
+        ExceptionFingerprint first = ExceptionFingerprint.withoutFrames(new IllegalStateException("order 1001 missing"));
+        ExceptionFingerprint second = ExceptionFingerprint.withoutFrames(thrownElsewhere("order 2 missing"));
+        assertEquals(first, second);
+        assertEquals("", first.frames());
+        assertEquals(ExceptionFingerprint.withoutFrames(new BaseRuntimeException("订单{}不存在", 1)),
+                ExceptionFingerprint.withoutFrames(new BaseRuntimeException("订单{}不存在", 2)));
+        assertNotEquals(first, ExceptionFingerprint.withoutFrames(new IllegalArgumentException("order 1 missing")));
+    }
+
+    @Test
+    void flushesSuppressedCountsAfterErrorsStop() throws Exception {
+        ExceptionFingerprint key = ExceptionFingerprint.withoutFrames(new IllegalStateException("boom"));
+        try (ExceptionLogLimiter limiter = new ExceptionLogLimiter(2, 50, 16)) {
+            assertTrue(limiter.tryAcquire(key, LogLevelEnum.WARN));
+            assertTrue(limiter.tryAcquire(key, LogLevelEnum.WARN));
+            for (int i = 0; i < 3; i++) {
+                assertFalse(limiter.tryAcquire(key, LogLevelEnum.WARN));
+            }
+            //不再有异常, 后台线程仍会输出被抑制的条数
+            List<String> messages = awaitMessages(1);
+            assertEquals(List.of("同类异常已抑制3条: " + key), messages);
+            assertEquals("WARN", appender.list.get(0).getLevel().toString());
+            //新窗口重新计数
+            assertTrue(limiter.tryAcquire(key, LogLevelEnum.WARN));
+        }
+    }
+
+    @Test
+    void evictsOneKeyAtATime() {
+        ExceptionFingerprint a = ExceptionFingerprint.withoutFrames(new IllegalStateException("a"));
+        ExceptionFingerprint b = ExceptionFingerprint.withoutFrames(new IllegalStateException("b"));
+        ExceptionFingerprint c = ExceptionFingerprint.withoutFrames(new IllegalStateException("c"));
+        try (ExceptionLogLimiter limiter = new ExceptionLogLimiter(1, 60000, 2)) {
+            for (ExceptionFingerprint key : List.of(a, b)) {
+                assertTrue(limiter.tryAcquire(key, LogLevelEnum.ERROR));
+                assertFalse(limiter.tryAcquire(key, LogLevelEnum.ERROR));
+            }
+            //种类已满, 只淘汰一个并输出它被抑制的条数, 另一个的计数保留
+            assertTrue(limiter.tryAcquire(c, LogLevelEnum.ERROR));
+            assertEquals(2, limiter.size());
+            assertEquals(1, messages().size());
+
+            limiter.flush();
+            List<String> messages = messages();
+            assertEquals(2, messages.size());
+            assertEquals(List.of(), messages.stream().filter(message -> !message.startsWith("同类异常已抑制1条")).toList());
+            assertNotEquals(messages.get(0), messages.get(1));
+        }
+    }
+
+    private List<String> awaitMessages(int count) throws InterruptedException {
+        for (int i = 0; i < 100 && messages().size() < count; i++) {
+            Thread.sleep(20);
+        }
+        return messages();
+    }
+
+    private List<String> messages() {
+        return appender.list.stream().map(ILoggingEvent::getFormattedMessage).toList();
+    }
+
+    private static IllegalStateException thrownElsewhere(String message) {
+        return new IllegalStateException(message);
+    }
+}
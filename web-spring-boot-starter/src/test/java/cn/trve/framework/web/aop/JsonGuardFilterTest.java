@@ -0,0 +1,168 @@
+package cn.trve.framework.web.aop;
+
+import cn.trve.framework.web.config.prop.WebProperties;
+import cn.trve.framework.web.constant.enums.DataFormatEnum;
+import cn.trve.framework.web.exception.BusinessException;
+import cn.trve.framework.web.util.JsonUtils;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonGuardFilterTest {
+
+    private static final String BODY = "{\"name\":\"订单\",\"items\":[1,2,3]}";
+
+    private final JsonGuardFilter filter = new JsonGuardFilter(props());
+
+    @Test
+    void replaysValidatedBody() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(BODY), new MockHttpServletResponse(), chain);
+        HttpServletRequest replayed = (HttpServletRequest) chain.getRequest();
+        byte[] bytes = BODY.getBytes(StandardCharsets.UTF_8);
+        assertEquals(bytes.length, replayed.getContentLengthLong());
+        assertArrayEquals(bytes, replayed.getInputStream().readAllBytes());
+        //每次获取都是新的流, 可重复读取
+        assertEquals(BODY, replayed.getReader().lines().collect(Collectors.joining()));
+    }
+
+    @Test
+    void replaysBodyToReadListener() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(BODY), new MockHttpServletResponse(), chain);
+        ServletInputStream in = chain.getRequest().getInputStream();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data");
+                //每次只读一部分
+                byte[] buffer = new byte[8];
+                if (in.isReady() && !in.isFinished()) {
+                    out.write(buffer, 0, in.read(buffer));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("end");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+        assertEquals("end", events.get(events.size() - 1));
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), out.toByteArray());
+    }
+
+    @Test
+    void rejectsBodyOverLimits() {
+        assertThrows(BusinessException.class, () -> filter.doFilter(request("[[[[1]]]]"),
+                new MockHttpServletResponse(), new MockFilterChain()));
+        assertThrows(BusinessException.class, () -> filter.doFilter(request("[\"" + "x".repeat(17) + "\"]"),
+                new MockHttpServletResponse(), new MockFilterChain()));
+        assertThrows(BusinessException.class, () -> filter.doFilter(request("{\"a\":1,\"b\":2,\"c\":3}"),
+                new MockHttpServletResponse(), new MockFilterChain()));
+        assertThrows(BusinessException.class, () -> filter.doFilter(request("{'a':1}"),
+                new MockHttpServletResponse(), new MockFilterChain()));
+        //没有Content-Length时按实际读取的长度拒绝
+        MockHttpServletRequest chunked = new MockHttpServletRequest("POST", "/orders") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        chunked.setContent(("[" + "1,".repeat(40) + "1]").getBytes(StandardCharsets.UTF_8));
+        assertThrows(BusinessException.class, () -> filter.doFilter(chunked,
+                new MockHttpServletResponse(), new MockFilterChain()));
+    }
+
+    @Test
+    void rejectsContentLengthWithoutReading() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders") {
+            @Override
+            public long getContentLengthLong() {
+                return 1L << 32;
+            }
+
+            @Override
+            public ServletInputStream getInputStream() {
+                throw new AssertionError("不应读取请求体");
+            }
+        };
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        MockFilterChain chain = new MockFilterChain();
+        assertThrows(BusinessException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), chain));
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void validatesBinaryBodiesWithSameLimits() throws Exception {
+        for (DataFormatEnum format : List.of(DataFormatEnum.SMILE, DataFormatEnum.CBOR)) {
+            MockHttpServletRequest valid = binary(format, JsonUtils.from(BODY, Object.class));
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(valid, new MockHttpServletResponse(), chain);
+            Object replayed = JsonUtils.from(chain.getRequest().getInputStream().readAllBytes(), Object.class, format);
+            assertEquals(BODY, JsonUtils.to(replayed));
+            MockHttpServletRequest deep = binary(format, List.of(List.of(List.of(List.of(1)))));
+            assertThrows(BusinessException.class, () -> filter.doFilter(deep,
+                    new MockHttpServletResponse(), new MockFilterChain()));
+        }
+    }
+
+    @Test
+    void skipsNonJsonRequests() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders");
+        request.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        request.setContent("[[[[1]]]]".getBytes(StandardCharsets.UTF_8));
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertSame(request, chain.getRequest());
+    }
+
+    private static MockHttpServletRequest binary(DataFormatEnum format, Object body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders");
+        request.setContentType(format.getMediaType());
+        request.setContent(JsonUtils.toBytes(body, format));
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/orders");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static WebProperties.JsonGuard props() {
+        WebProperties.JsonGuard props = new WebProperties.JsonGuard();
+        props.setMaxDepth(3);
+        props.setMaxStringLength(16);
+        props.setMaxObjectFields(2);
+        props.setMaxDocumentLength(64);
+        return props;
+    }
+}
@@ -0,0 +1,213 @@
+package cn.trve.framework.web.aop;
+
+import cn.trve.framework.web.annotation.RequestPriority;
+import cn.trve.framework.web.config.prop.WebProperties;
+import cn.trve.framework.web.constant.enums.PriorityEnum;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class LoadSheddingFilterTest {
+
+    private static final String HEADER = "X-Priority";
+
+    @Test
+    void rejectsWhenMaxInFlightReached() throws Exception {
+        LoadSheddingFilter filter = new LoadSheddingFilter(props(), null);
+        try (Holder holder = new Holder(filter)) {
+            MockHttpServletResponse response = perform(filter, PriorityEnum.HIGH);
+            assertEquals(503, response.getStatus());
+            assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+            assertEquals(1, filter.getInFlight());
+        }
+        assertEquals(200, perform(filter, PriorityEnum.HIGH).getStatus());
+        assertEquals(0, filter.getInFlight());
+    }
+
+    @Test
+    void criticalBypassesLimits() throws Exception {
+        LoadSheddingFilter filter = new LoadSheddingFilter(props(), null);
+        try (Holder holder = new Holder(filter)) {
+            overload(filter);
+            //许可已被占满且处于过载状态, 关键请求仍然直接处理
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request(PriorityEnum.CRITICAL), new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    @Test
+    void shedsLowPriorityWhileOverloadedAndRecovers() throws Exception {
+        LoadSheddingFilter filter = new LoadSheddingFilter(props(), null);
+        try (Holder holder = new Holder(filter)) {
+            overload(filter);
+        }
+        assertTrue(filter.isOverloaded());
+        //许可空闲, 但过载期间低于等于shedPriority的请求直接拒绝
+        assertEquals(503, perform(filter, PriorityEnum.NORMAL).getStatus());
+        assertEquals(200, perform(filter, PriorityEnum.HIGH).getStatus());
+        //一个观测周期内没有排队即恢复
+        Thread.sleep(60);
+        assertEquals(200, perform(filter, PriorityEnum.HIGH).getStatus());
+        assertFalse(filter.isOverloaded());
+        assertEquals(200, perform(filter, PriorityEnum.LOW).getStatus());
+    }
+
+    @Test
+    void resolvesAnnotatedPriorityWithoutLeavingAttributes() throws Exception {
+        try (AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext()) {
+            context.setServletContext(new MockServletContext());
+            context.register(MvcConfig.class);
+            context.refresh();
+            WebProperties.LoadShedding props = props();
+            props.setShedPriority(PriorityEnum.LOW);
+            LoadSheddingFilter filter = new LoadSheddingFilter(props,
+                    context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class));
+            //首次请求查找handler, 留下的路径与匹配结果不带入后续处理
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(get("/order"), new MockHttpServletResponse(), chain);
+            assertNull(chain.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+            assertNull(chain.getRequest().getAttribute(ServletRequestPathUtils.PATH_ATTRIBUTE));
+            assertEquals(List.of(), Collections.list(chain.getRequest().getAttributeNames()));
+            assertEquals(200, perform(filter, get("/report/1")).getStatus());
+
+            try (Holder holder = new Holder(filter)) {
+                overload(filter);
+            }
+            assertEquals(503, perform(filter, get("/report/1")).getStatus());
+            assertEquals(200, perform(filter, get("/order")).getStatus());
+        }
+    }
+
+    /**
+     * 占满许可后持续让请求排队超时, 直到一个完整观测周期内的最小时延都超过目标值
+     */
+    private static void overload(LoadSheddingFilter filter) throws Exception {
+        for (int i = 0; i < 10; i++) {
+            assertEquals(503, perform(filter, PriorityEnum.HIGH).getStatus());
+            if (filter.isOverloaded()) {
+                return;
+            }
+            Thread.sleep(30);
+        }
+        fail("未进入过载状态");
+    }
+
+    private static MockHttpServletResponse perform(LoadSheddingFilter filter, PriorityEnum priority) throws Exception {
+        return perform(filter, request(priority));
+    }
+
+    private static MockHttpServletResponse perform(LoadSheddingFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(PriorityEnum priority) {
+        MockHttpServletRequest request = get("/order");
+        request.addHeader(HEADER, priority.name().toLowerCase());
+        return request;
+    }
+
+    private static MockHttpServletRequest get(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    private static WebProperties.LoadShedding props() {
+        WebProperties.LoadShedding props = new WebProperties.LoadShedding();
+        props.setMaxInFlight(1);
+        props.setMaxQueueTime(30);
+        props.setTargetDelay(5);
+        props.setInterval(50);
+        props.setPriorityHeader(HEADER);
+        return props;
+    }
+
+    /**
+     * 在另一个线程中占住唯一的处理许可, 关闭时释放
+     */
+    private static final class Holder implements AutoCloseable {
+
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final Future<?> future;
+
+        private Holder(LoadSheddingFilter filter) throws InterruptedException {
+            CountDownLatch entered = new CountDownLatch(1);
+            FilterChain chain = (request, response) -> {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            future = executor.submit(() -> {
+                filter.doFilter(request(PriorityEnum.HIGH), new MockHttpServletResponse(), chain);
+                return null;
+            });
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+        }
+
+        @Override
+        public void close() throws Exception {
+            release.countDown();
+            future.get(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class MvcConfig {
+
+        @Bean
+        public ReportController reportController() {
+            return new ReportController();
+        }
+    }
+
+    @RestController
+    static class ReportController {
+
+        @RequestPriority(PriorityEnum.LOW)
+        @GetMapping("/report/{id}")
+        public String report(@PathVariable("id") Long id) {
+            return "report";
+        }
+
+        @GetMapping("/order")
+        public String order() {
+            return "order";
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package cn.trve.framework.web.aop;
+
+import cn.trve.framework.web.converter.ResultHttpMessageConverter;
+import cn.trve.framework.web.model.Result;
+import cn.trve.framework.web.model.Versioned;
+import cn.trve.framework.web.util.JsonUtils;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ResultETagAdviceTest {
+
+    private static final AtomicInteger SERIALIZED = new AtomicInteger();
+
+    private AnnotationConfigWebApplicationContext context;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        SERIALIZED.set(0);
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.register(MvcConfig.class);
+        context.refresh();
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void contentTagHashesWrittenBytes() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/plain"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        byte[] body = response.getContentAsByteArray();
+        String etag = '"' + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body)) + '"';
+        assertEquals(List.of(etag), response.getHeaders(HttpHeaders.ETAG));
+        assertEquals(body.length, response.getContentLength());
+        //摘要与写出使用同一份字节, 只序列化一次
+        assertEquals(1, SERIALIZED.get());
+        assertArrayEquals(context.getBean(MvcConfig.class).converter.toBytes(Result.ok(new Counted())), body);
+
+        mockMvc.perform(get("/plain").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void versionTagSkipsSerialization() throws Exception {
+        String etag = "W/\"Item-7-3\"";
+        mockMvc.perform(get("/versioned"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, etag));
+        SERIALIZED.set(0);
+        mockMvc.perform(get("/versioned").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        assertEquals(0, SERIALIZED.get());
+        mockMvc.perform(get("/versioned").header(HttpHeaders.IF_NONE_MATCH, "W/\"Item-7-2\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void controllerTagWins() throws Exception {
+        mockMvc.perform(get("/custom"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, "\"v1\""));
+        mockMvc.perform(get("/custom").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class MvcConfig implements WebMvcConfigurer {
+
+        private final ResultHttpMessageConverter converter = new ResultHttpMessageConverter(JsonUtils.getObjectMapper());
+
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            converters.add(0, converter);
+        }
+
+        @Bean
+        public ResultETagAdvice resultETagAdvice() {
+            return new ResultETagAdvice(converter, true);
+        }
+
+        @Bean
+        public ETagController eTagController() {
+            return new ETagController();
+        }
+    }
+
+    @RestController
+    static class ETagController {
+
+        @GetMapping("/plain")
+        public Result<Counted> plain() {
+            return Result.ok(new Counted());
+        }
+
+        @GetMapping("/versioned")
+        public Result<Item> versioned() {
+            return Result.ok(new Item());
+        }
+
+        @GetMapping("/custom")
+        public Result<Counted> custom(HttpServletResponse response) {
+            response.setHeader(HttpHeaders.ETAG, "\"v1\"");
+            return Result.ok(new Counted());
+        }
+    }
+
+    public static class Counted {
+
+        public String getName() {
+            SERIALIZED.incrementAndGet();
+            return "订单";
+        }
+    }
+
+    public static class Item extends Counted implements Versioned {
+
+        @Override
+        public Object getVersion() {
+            return 3;
+        }
+
+        @Override
+        public Object versionKey() {
+            return 7;
+        }
+    }
+}
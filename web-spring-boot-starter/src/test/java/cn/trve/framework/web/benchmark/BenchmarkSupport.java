@@ -0,0 +1,144 @@
+package cn.trve.framework.web.benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.lang.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 基准测试的公共数据与启动入口.
+ * 运行: 先执行 mvn test-compile, 再以测试classpath运行各基准类的main方法, 参数传给JMH(如 -f 1 -wi 3 -i 5).
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    public static Collection<RunResult> run(Class<?> benchmark, String... args)
+            throws RunnerException, CommandLineOptionException {
+        return new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(benchmark.getName() + ".*")
+                .build()).run();
+    }
+
+    public static List<Order> orders(int size) {
+        List<Order> orders = new ArrayList<>(size);
+        LocalDateTime time = LocalDateTime.of(2026, 10, 19, 8, 30, 15);
+        for (int i = 0; i < size; i++) {
+            Order order = new Order();
+            order.setId(1_000_000L + i);
+            order.setName("订单-" + i);
+            order.setAmount(new BigDecimal("199.90").add(BigDecimal.valueOf(i)));
+            order.setCreateTime(time.plusMinutes(i));
+            order.setTags(List.of("vip", "online"));
+            order.setPaid(i % 2 == 0);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    /**
+     * 典型的业务对象
+     */
+    public static class Order {
+        private Long id;
+        private String name;
+        private BigDecimal amount;
+        private LocalDateTime createTime;
+        private List<String> tags;
+        private boolean paid;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public LocalDateTime getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(LocalDateTime createTime) {
+            this.createTime = createTime;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+    }
+
+    /**
+     * 写入可复用内存缓冲区的响应, 排除分配输出缓冲区对结果的影响
+     */
+    public static final class BufferOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+        private HttpHeaders headers = new HttpHeaders();
+
+        public BufferOutputMessage reset() {
+            body.reset();
+            headers = new HttpHeaders();
+            return this;
+        }
+
+        public int size() {
+            return body.size();
+        }
+
+        @Override
+        @NonNull
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        @NonNull
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
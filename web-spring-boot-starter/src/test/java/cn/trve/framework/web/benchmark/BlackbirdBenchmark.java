@@ -0,0 +1,290 @@
+package cn.trve.framework.web.benchmark;
+
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 反射访问器与Blackbird生成的访问器在实体对象图上的吞吐量对比.
+ * 实体与数据库模块的Entity使用相同的注解(ToStringSerializer主键、@JsonFormat时间、@JsonIgnore审计字段);
+ * size为客户下的订单数, 每个订单3条明细.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlackbirdBenchmark {
+
+    @Param({"1", "100"})
+    public int size;
+
+    private Customer customer;
+    private byte[] json;
+    private ObjectWriter reflectionWriter;
+    private ObjectWriter blackbirdWriter;
+    private ObjectReader reflectionReader;
+    private ObjectReader blackbirdReader;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper reflection = JsonUtils.initMapperConfig(new ObjectMapper(), false);
+        ObjectMapper blackbird = JsonUtils.initMapperConfig(new ObjectMapper(), true);
+        reflectionWriter = reflection.writerFor(Customer.class);
+        blackbirdWriter = blackbird.writerFor(Customer.class);
+        reflectionReader = reflection.readerFor(Customer.class);
+        blackbirdReader = blackbird.readerFor(Customer.class);
+        customer = customer(size);
+        json = reflectionWriter.writeValueAsBytes(customer);
+        if (!Arrays.equals(json, blackbirdWriter.writeValueAsBytes(customer))) {
+            throw new IllegalStateException("Blackbird与反射的序列化结果不一致");
+        }
+    }
+
+    @Benchmark
+    public byte[] writeReflection() throws IOException {
+        return reflectionWriter.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public byte[] writeBlackbird() throws IOException {
+        return blackbirdWriter.writeValueAsBytes(customer);
+    }
+
+    @Benchmark
+    public Customer readReflection() throws IOException {
+        return reflectionReader.readValue(json);
+    }
+
+    @Benchmark
+    public Customer readBlackbird() throws IOException {
+        return blackbirdReader.readValue(json);
+    }
+
+    private static Customer customer(int orders) {
+        LocalDateTime time = LocalDateTime.of(2026, 10, 19, 8, 30, 15);
+        Customer customer = fill(new Customer(), 1L, time);
+        customer.setName("客户");
+        customer.setMobile("13800000000");
+        customer.setLevel(3);
+        customer.setOrders(new ArrayList<>(orders));
+        for (int i = 0; i < orders; i++) {
+            OrderEntity order = fill(new OrderEntity(), 1_000L + i, time.plusMinutes(i));
+            order.setNo("NO-" + i);
+            order.setAmount(new BigDecimal("299.70"));
+            order.setPaid(i % 2 == 0);
+            order.setItems(new ArrayList<>(3));
+            for (int j = 0; j < 3; j++) {
+                Item item = fill(new Item(), 100_000L + i * 3L + j, time);
+                item.setSku("SKU-" + j);
+                item.setQuantity(j + 1);
+                item.setPrice(new BigDecimal("99.90"));
+                order.getItems().add(item);
+            }
+            customer.getOrders().add(order);
+        }
+        return customer;
+    }
+
+    private static <E extends BaseEntity> E fill(E entity, Long id, LocalDateTime time) {
+        entity.setId(id);
+        entity.setCreateDate(time);
+        entity.setCreateBy("sys");
+        entity.setLastModifiedDate(time);
+        entity.setVersion(0L);
+        return entity;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.run(BlackbirdBenchmark.class, args);
+    }
+
+    /**
+     * 与数据库模块Entity相同的注解
+     */
+    public abstract static class BaseEntity {
+        @JsonSerialize(using = ToStringSerializer.class)
+        private Long id;
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime createDate;
+        @JsonIgnore
+        private String createBy;
+        @JsonIgnore
+        private LocalDateTime lastModifiedDate;
+        @JsonIgnore
+        private Long version;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public LocalDateTime getCreateDate() {
+            return createDate;
+        }
+
+        public void setCreateDate(LocalDateTime createDate) {
+            this.createDate = createDate;
+        }
+
+        public String getCreateBy() {
+            return createBy;
+        }
+
+        public void setCreateBy(String createBy) {
+            this.createBy = createBy;
+        }
+
+        public LocalDateTime getLastModifiedDate() {
+            return lastModifiedDate;
+        }
+
+        public void setLastModifiedDate(LocalDateTime lastModifiedDate) {
+            this.lastModifiedDate = lastModifiedDate;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+    }
+
+    public static class Customer extends BaseEntity {
+        private String name;
+        private String mobile;
+        private int level;
+        private List<OrderEntity> orders;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getMobile() {
+            return mobile;
+        }
+
+        public void setMobile(String mobile) {
+            this.mobile = mobile;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        public List<OrderEntity> getOrders() {
+            return orders;
+        }
+
+        public void setOrders(List<OrderEntity> orders) {
+            this.orders = orders;
+        }
+    }
+
+    public static class OrderEntity extends BaseEntity {
+        private String no;
+        private BigDecimal amount;
+        private boolean paid;
+        private List<Item> items;
+
+        public String getNo() {
+            return no;
+        }
+
+        public void setNo(String no) {
+            this.no = no;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Item extends BaseEntity {
+        private String sku;
+        private int quantity;
+        private BigDecimal price;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+    }
+}
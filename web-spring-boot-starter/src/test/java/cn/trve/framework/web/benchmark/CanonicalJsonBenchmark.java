@@ -0,0 +1,60 @@
+package cn.trve.framework.web.benchmark;
+
+import cn.trve.framework.web.json.CanonicalJson;
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 规范化摘要: POJO流式输出与先转为树再输出(原实现)对比, 关注每次操作的分配量.
+ * size为订单条数: 1、100、10000分别对应小、中、大报文.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanonicalJsonBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private CanonicalJson canonical;
+    private List<BenchmarkSupport.Order> orders;
+
+    @Setup
+    public void setup() {
+        mapper = JsonUtils.getObjectMapper();
+        canonical = JsonUtils.getCanonicalJson();
+        orders = BenchmarkSupport.orders(size);
+    }
+
+    @Benchmark
+    public String streaming() {
+        return canonical.sha256Hex(orders);
+    }
+
+    @Benchmark
+    public String tree() {
+        return canonical.sha256Hex(mapper.valueToTree(orders));
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.run(CanonicalJsonBenchmark.class, args);
+    }
+}
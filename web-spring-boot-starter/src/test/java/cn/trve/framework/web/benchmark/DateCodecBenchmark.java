@@ -0,0 +1,102 @@
+package cn.trve.framework.web.benchmark;
+
+import cn.trve.framework.web.constant.dict.DatePattern;
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 日期读写: JsonUtils的mapper(FastDateSerializer等)与原配置(SimpleDateFormat + DateTimeFormatter)对比.
+ * 每个对象含Date、LocalDateTime以及带 {@link JsonFormat} pattern的Date各一个.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateCodecBenchmark {
+
+    private ObjectWriter legacyWriter;
+    private ObjectReader legacyReader;
+    private ObjectWriter fastWriter;
+    private ObjectReader fastReader;
+    private Row row;
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        String pattern = DatePattern.NORM_DATETIME_PATTERN;
+        ObjectMapper legacy = JsonMapper.builder().build();
+        legacy.setDateFormat(new SimpleDateFormat(pattern));
+        JavaTimeModule module = new JavaTimeModule();
+        module.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(pattern)))
+                .addDeserializer(LocalDateTime.class,
+                        new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern(pattern)));
+        legacy.registerModule(module);
+        legacyWriter = legacy.writerFor(Row.class);
+        legacyReader = legacy.readerFor(Row.class);
+        fastWriter = JsonUtils.getObjectMapper().writerFor(Row.class);
+        fastReader = JsonUtils.getObjectMapper().readerFor(Row.class);
+
+        row = new Row();
+        row.createTime = new Date(1792000000123L);
+        row.updateTime = LocalDateTime.of(2026, 10, 20, 9, 15, 30);
+        row.payTime = row.createTime;
+        json = fastWriter.writeValueAsBytes(row);
+    }
+
+    @Benchmark
+    public byte[] writeLegacy() throws IOException {
+        return legacyWriter.writeValueAsBytes(row);
+    }
+
+    @Benchmark
+    public byte[] writeFast() throws IOException {
+        return fastWriter.writeValueAsBytes(row);
+    }
+
+    @Benchmark
+    public Row readLegacy() throws IOException {
+        return legacyReader.readValue(json);
+    }
+
+    @Benchmark
+    public Row readFast() throws IOException {
+        return fastReader.readValue(json);
+    }
+
+    public static class Row {
+        public Date createTime;
+        public LocalDateTime updateTime;
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+        public Date payTime;
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.run(DateCodecBenchmark.class, args);
+    }
+}
@@ -0,0 +1,72 @@
+package cn.trve.framework.web.benchmark;
+
+import cn.trve.framework.web.exception.BusinessException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 业务失败的开销: 在depth层调用栈下抛出并捕获业务异常, 每次调用都失败, 即失败率100%时的情形.
+ * 分别对比普通异常、stackless异常与预分配的单例异常.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionBenchmark {
+
+    private static final BusinessException NOT_FOUND = BusinessException.builder()
+            .message("订单不存在").viewMessage("订单不存在").stackless().build();
+
+    @Param({"20", "100"})
+    public int depth;
+
+    @Benchmark
+    public Object withStackTrace() {
+        return call(depth, 0);
+    }
+
+    @Benchmark
+    public Object stackless() {
+        return call(depth, 1);
+    }
+
+    @Benchmark
+    public Object singleton() {
+        return call(depth, 2);
+    }
+
+    private static Object call(int depth, int mode) {
+        try {
+            return nested(depth, mode);
+        } catch (BusinessException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Object nested(int depth, int mode) {
+        if (depth > 0) {
+            return nested(depth - 1, mode);
+        }
+        throw switch (mode) {
+            case 0 -> new BusinessException("订单{}不存在", depth);
+            case 1 -> BusinessException.builder().message("订单{}不存在", depth).stackless().build();
+            default -> NOT_FOUND;
+        };
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.run(ExceptionBenchmark.class, args);
+    }
+}
@@ -0,0 +1,90 @@
+package cn.trve.framework.web.benchmark;
+
+import cn.trve.framework.web.json.JsonLinesWriter;
+import cn.trve.framework.web.util.JsonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * JSON Lines文件并行读取随并行度的扩展性, 与单线程流式读取对比.
+ * parallelism为执行终端操作的ForkJoinPool线程数, 超过机器核数的取值没有意义; 每次操作解析 {@link #RECORDS} 行订单并求和.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonLinesParallelBenchmark {
+
+    private static final int RECORDS = 200_000;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private Path file;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = Files.createTempFile("orders", ".jsonl");
+        try (JsonLinesWriter writer = JsonUtils.jsonLinesWriter(file).build()) {
+            writer.writeAll(BenchmarkSupport.orders(RECORDS));
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long sequential() throws IOException {
+        try (InputStream in = Files.newInputStream(file);
+             Stream<BenchmarkSupport.Order> stream = JsonUtils.stream(in, BenchmarkSupport.Order.class)) {
+            return stream.mapToLong(BenchmarkSupport.Order::getId).sum();
+        }
+    }
+
+    @Benchmark
+    public long parallelOrdered() throws ExecutionException, InterruptedException {
+        return pool.submit(() -> sum(true)).get();
+    }
+
+    @Benchmark
+    public long parallelUnordered() throws ExecutionException, InterruptedException {
+        return pool.submit(() -> sum(false)).get();
+    }
+
+    private long sum(boolean ordered) {
+        try (Stream<BenchmarkSupport.Order> stream = JsonUtils.parallelStream(file, BenchmarkSupport.Order.class, ordered)) {
+            return stream.mapToLong(BenchmarkSupport.Order::getId).sum();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.run(JsonLinesParallelBenchmark.class, args);
+    }
+}
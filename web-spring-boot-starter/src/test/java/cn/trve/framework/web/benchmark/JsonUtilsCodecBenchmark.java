@@ -0,0 +1,91 @@
+package cn.trve.framework.web.benchmark;
+
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtils按类型缓存的ObjectReader/ObjectWriter与每次经TypeFactory构造类型后调用ObjectMapper的原实现对比.
+ * size为订单条数: 1、100、10000分别对应小、中、大报文.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsCodecBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private List<BenchmarkSupport.Order> orders;
+    private String listJson;
+    private String mapJson;
+
+    @Setup
+    public void setup() {
+        mapper = JsonUtils.getObjectMapper();
+        orders = BenchmarkSupport.orders(size);
+        listJson = JsonUtils.to(orders);
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put("k" + i, i);
+        }
+        mapJson = JsonUtils.to(map);
+    }
+
+    @Benchmark
+    public List<BenchmarkSupport.Order> fromListMapper() throws IOException {
+        return mapper.readValue(listJson,
+                mapper.getTypeFactory().constructCollectionType(ArrayList.class, BenchmarkSupport.Order.class));
+    }
+
+    @Benchmark
+    public List<BenchmarkSupport.Order> fromListCached() {
+        return JsonUtils.fromList(listJson, BenchmarkSupport.Order.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> fromMapMapper() throws IOException {
+        return mapper.readValue(mapJson,
+                mapper.getTypeFactory().constructMapType(HashMap.class, String.class, Object.class));
+    }
+
+    @Benchmark
+    public Map<String, Object> fromMapCached() {
+        return JsonUtils.fromMap(mapJson);
+    }
+
+    @Benchmark
+    public String toMapper() throws IOException {
+        return mapper.writeValueAsString(orders);
+    }
+
+    @Benchmark
+    public String toCached() {
+        return JsonUtils.to(orders);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.run(JsonUtilsCodecBenchmark.class, args);
+    }
+}
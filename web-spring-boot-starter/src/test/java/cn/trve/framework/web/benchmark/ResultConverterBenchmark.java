@@ -0,0 +1,71 @@
+package cn.trve.framework.web.benchmark;
+
+import cn.trve.framework.web.converter.ResultHttpMessageConverter;
+import cn.trve.framework.web.model.Result;
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result响应写出: {@link ResultHttpMessageConverter} 与Spring默认Jackson转换器对比.
+ * fail为不带数据的固定响应, 其余为带1条或100条订单数据的成功响应.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultConverterBenchmark {
+
+    @Param({"fail", "1", "100"})
+    public String payload;
+
+    private final BenchmarkSupport.BufferOutputMessage message = new BenchmarkSupport.BufferOutputMessage();
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private ResultHttpMessageConverter resultConverter;
+    private Result<?> result;
+
+    @Setup
+    public void setup() {
+        ObjectMapper mapper = JsonUtils.getObjectMapper();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(mapper);
+        resultConverter = new ResultHttpMessageConverter(mapper);
+        result = switch (payload) {
+            case "fail" -> Result.fail(Result.Status.NOT_FOUND);
+            case "1" -> Result.ok(BenchmarkSupport.orders(1).get(0));
+            default -> Result.ok(BenchmarkSupport.orders(Integer.parseInt(payload)));
+        };
+    }
+
+    @Benchmark
+    public int jackson() throws IOException {
+        jacksonConverter.write(result, MediaType.APPLICATION_JSON, message.reset());
+        return message.size();
+    }
+
+    @Benchmark
+    public int resultConverter() throws IOException {
+        resultConverter.write(result, MediaType.APPLICATION_JSON, message.reset());
+        return message.size();
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.run(ResultConverterBenchmark.class, args);
+    }
+}
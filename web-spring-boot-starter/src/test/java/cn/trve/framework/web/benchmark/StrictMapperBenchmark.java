@@ -0,0 +1,71 @@
+package cn.trve.framework.web.benchmark;
+
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 同一份机器生成的JSON分别由宽松映射器(开启全部JsonReadFeature)与严格映射器解析, 衡量宽松特性的开销.
+ * size为订单条数: 1、100、10000分别对应小、中、大报文.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrictMapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int size;
+
+    private byte[] json;
+    private ObjectReader lenientReader;
+    private ObjectReader strictReader;
+
+    @Setup
+    public void setup() {
+        json = JsonUtils.toBytes(BenchmarkSupport.orders(size));
+        lenientReader = JsonUtils.getObjectMapper().readerForListOf(BenchmarkSupport.Order.class);
+        strictReader = JsonUtils.getStrictObjectMapper().readerForListOf(BenchmarkSupport.Order.class);
+    }
+
+    @Benchmark
+    public List<BenchmarkSupport.Order> lenient() throws IOException {
+        return lenientReader.readValue(json);
+    }
+
+    @Benchmark
+    public List<BenchmarkSupport.Order> strict() throws IOException {
+        return strictReader.readValue(json);
+    }
+
+    @Benchmark
+    public JsonNode lenientTree() throws IOException {
+        return JsonUtils.getObjectMapper().readTree(json);
+    }
+
+    @Benchmark
+    public JsonNode strictTree() throws IOException {
+        return JsonUtils.getStrictObjectMapper().readTree(json);
+    }
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.run(StrictMapperBenchmark.class, args);
+    }
+}
@@ -0,0 +1,138 @@
+package cn.trve.framework.web.config.bean;
+
+import cn.trve.framework.web.config.prop.WebProperties;
+import cn.trve.framework.web.constant.enums.DataFormatEnum;
+import cn.trve.framework.web.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class WebBeansTest {
+
+    @Test
+    void smileUsesJsonUtilsMapper() throws Exception {
+        try (AnnotationConfigWebApplicationContext context = context(true)) {
+            List<HttpMessageConverter<?>> converters = context.getBean(RequestMappingHandlerAdapter.class)
+                    .getMessageConverters();
+            List<MappingJackson2SmileHttpMessageConverter> smile = converters.stream()
+                    .filter(MappingJackson2SmileHttpMessageConverter.class::isInstance)
+                    .map(MappingJackson2SmileHttpMessageConverter.class::cast).toList();
+            assertEquals(1, smile.size());
+            assertEquals(1, converters.stream().filter(MappingJackson2CborHttpMessageConverter.class::isInstance).count());
+
+            MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+            mockMvc.perform(get("/order").accept(DataFormatEnum.SMILE.getMediaType()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(DataFormatEnum.SMILE.getMediaType()))
+                    .andExpect(content().bytes(JsonUtils.toBytes(OrderController.ORDER, DataFormatEnum.SMILE)));
+            //未指定具体格式时仍返回JSON
+            mockMvc.perform(get("/order").accept("*/*"))
+                    .andExpect(content().contentTypeCompatibleWith("application/json"));
+
+            //未知字段的处理与JSON转换器一致
+            Map<String, Object> order = Map.of("id", 2L, "remark", "unknown");
+            mockMvc.perform(post("/order").contentType(MediaType.APPLICATION_JSON).content(JsonUtils.toBytes(order)))
+                    .andExpect(status().isOk());
+            mockMvc.perform(post("/order").contentType(DataFormatEnum.SMILE.getMediaType())
+                            .content(JsonUtils.toBytes(order, DataFormatEnum.SMILE)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("2"));
+        }
+    }
+
+    @Test
+    void disabledByDefault() {
+        assertFalse(new WebProperties().getBinaryCodec().isEnabled());
+    }
+
+    @Test
+    void disabledRemovesBinaryConverters() throws Exception {
+        try (AnnotationConfigWebApplicationContext context = context(false)) {
+            List<HttpMessageConverter<?>> converters = context.getBean(RequestMappingHandlerAdapter.class)
+                    .getMessageConverters();
+            assertEquals(0, converters.stream().filter(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                    || converter instanceof MappingJackson2CborHttpMessageConverter).count());
+            MockMvcBuilders.webAppContextSetup(context).build()
+                    .perform(get("/order").accept(DataFormatEnum.SMILE.getMediaType()))
+                    .andExpect(status().isNotAcceptable());
+        }
+    }
+
+    private static AnnotationConfigWebApplicationContext context(boolean enabled) {
+        WebProperties properties = new WebProperties();
+        properties.getBinaryCodec().setEnabled(enabled);
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.addBeanFactoryPostProcessor(beanFactory -> beanFactory.registerSingleton("webProperties", properties));
+        context.register(MvcConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class MvcConfig {
+
+        @Bean
+        public OrderController orderController() {
+            return new OrderController();
+        }
+
+        @Bean
+        public WebMvcConfigurer binaryMessageConverterConfigurer(WebProperties webProperties) {
+            return new WebBeans().binaryMessageConverterConfigurer(webProperties);
+        }
+    }
+
+    public static class OrderForm {
+        public Long id;
+    }
+
+    @RestController
+    static class OrderController {
+
+        static final Map<String, Object> ORDER = new LinkedHashMap<>();
+
+        static {
+            ORDER.put("id", 1L);
+            ORDER.put("createTime", LocalDateTime.of(2026, 10, 19, 8, 30, 15));
+        }
+
+        @GetMapping("/order")
+        public Map<String, Object> order() {
+            return ORDER;
+        }
+
+        @PostMapping("/order")
+        public Long create(@RequestBody OrderForm form) {
+            return form.id;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package cn.trve.framework.web.converter;
+
+import cn.trve.framework.web.model.Result;
+import cn.trve.framework.web.model.StreamingResult;
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResultHttpMessageConverterTest {
+
+    private final ResultJsonWriter writer = new ResultJsonWriter(JsonUtils.getObjectMapper());
+
+    @Test
+    void payloadCacheOnlyKeepsRegisteredResults() throws IOException {
+        ResultPayloadCache cache = new ResultPayloadCache(writer);
+        int preloaded = cache.size();
+        assertNotNull(cache.get(Result.fail(Result.Status.NOT_FOUND)));
+
+        Result<Object> dynamic = Result.fail("订单12345不存在");
+        assertNull(cache.get(dynamic));
+        assertEquals(preloaded, cache.size());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ResultHttpMessageConverter(writer, cache).writeTo(dynamic, out);
+        assertArrayEquals(writer.toBytes(dynamic), out.toByteArray());
+        assertEquals(preloaded, cache.size());
+
+        assertTrue(cache.register(dynamic));
+        assertArrayEquals(writer.toBytes(dynamic), cache.get(dynamic));
+    }
+
+    @Test
+    void streamingFlushesInBatches() throws IOException {
+        CountingOutputStream out = new CountingOutputStream(new ByteArrayOutputStream());
+        List<Map<String, Integer>> rows = IntStream.range(0, 1000).mapToObj(i -> Map.of("id", i)).toList();
+        writer.write(StreamingResult.ok(rows), out, 512);
+        //第512条一次, 关闭生成器时一次
+        assertTrue(out.flushes <= 2, "flushes: " + out.flushes);
+        assertEquals(1000, JsonUtils.getObjectMapper().readTree(out.toString()).get("data").size());
+    }
+
+    @Test
+    void streamingFailureLeavesInvalidJson() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Iterator<Integer> failing = IntStream.range(0, 10).map(i -> {
+            if (i == 3) {
+                throw new IllegalStateException("游标中断");
+            }
+            return i;
+        }).iterator();
+        assertThrows(IllegalStateException.class, () -> writer.write(StreamingResult.ok(failing), out));
+        assertTrue(out.toString().startsWith("{\"code\":\"web.ok\""));
+        assertThrows(JsonProcessingException.class, () -> JsonUtils.getObjectMapper().readTree(out.toString()));
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private int flushes;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            flushes++;
+            super.flush();
+        }
+
+        @Override
+        public String toString() {
+            return out.toString();
+        }
+    }
+}
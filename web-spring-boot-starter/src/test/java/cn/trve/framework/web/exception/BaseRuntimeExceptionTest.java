@@ -0,0 +1,62 @@
+package cn.trve.framework.web.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BaseRuntimeExceptionTest {
+
+    @Test
+    void sharedExceptionAlwaysRendersMessage() {
+        for (int round = 0; round < 200; round++) {
+            BusinessException shared = BusinessException.builder()
+                    .message("订单{}状态{}不允许取消", round, "PAID").stackless().build();
+            String expected = "订单" + round + "状态PAID不允许取消";
+            CyclicBarrier barrier = new CyclicBarrier(4);
+            List<CompletableFuture<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        barrier.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return shared.getMessage();
+                }));
+            }
+            for (CompletableFuture<String> future : futures) {
+                assertEquals(expected, future.join());
+            }
+        }
+    }
+
+    @Test
+    void serializesRenderedMessageWithoutArgs() throws Exception {
+        //参数不可序列化, 序列化时只写入格式化后的信息
+        Object order = new Object() {
+            @Override
+            public String toString() {
+                return "#1001";
+            }
+        };
+        BaseRuntimeException exception = new BaseRuntimeException("订单{}不存在", order);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            BaseRuntimeException copy = (BaseRuntimeException) in.readObject();
+            assertEquals("订单#1001不存在", copy.getMessage());
+            assertEquals("订单{}不存在", copy.getMessagePattern());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.util.JsonUtils;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class FastDateSerializerTest {
+
+    @Test
+    void patternOnlyDateFormatKeepsFastPath() throws Exception {
+        TimeZone defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Shanghai"));
+        try {
+            DatedBean bean = new DatedBean();
+            bean.at = new Date(1792000000000L);
+            bean.norm = bean.at;
+            //只指定pattern时与Jackson一致, 使用ObjectMapper的时区而不是系统默认时区
+            assertEquals(new ObjectMapper().writeValueAsString(bean), JsonUtils.to(bean));
+            SerializerProvider provider = JsonUtils.getObjectMapper().getSerializerProviderInstance();
+            BeanSerializerBase serializer = (BeanSerializerBase) provider.findValueSerializer(DatedBean.class);
+            serializer.properties().forEachRemaining(property -> assertInstanceOf(FastDateSerializer.class,
+                    assertDoesNotThrow(() -> provider.findValueSerializer(Date.class, (BeanPropertyWriter) property))));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    public static class DatedBean {
+        @JsonFormat(pattern = "yyyy/MM/dd HH:mm")
+        public Date at;
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        public Date norm;
+    }
+}
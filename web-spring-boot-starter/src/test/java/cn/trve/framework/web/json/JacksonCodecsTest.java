@@ -0,0 +1,54 @@
+package cn.trve.framework.web.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JacksonCodecsTest {
+
+    @Test
+    void cachesFollowLaterMapperConfiguration() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        JacksonCodecs codecs = new JacksonCodecs(mapper);
+        Item item = new Item();
+        item.name = "a";
+        assertEquals("{\"name\":\"a\"}", codecs.writerFor(item).writeValueAsString(item));
+        assertSame(codecs.writerFor(item), codecs.writerFor(item));
+        assertThrows(UnrecognizedPropertyException.class, () -> codecs.reader(Item.class).readValue("{\"x\":1}"));
+
+        //缓存之后再修改配置、注册模块, 同样生效, 与mapper自身的输出一致
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.enable(SerializationFeature.WRAP_ROOT_VALUE);
+        mapper.registerModule(new SimpleModule().addSerializer(Code.class, new StdSerializer<>(Code.class) {
+            @Override
+            public void serialize(Code value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+                gen.writeString("code");
+            }
+        }));
+        assertEquals("{\"Item\":{\"name\":\"a\"}}", codecs.writerFor(item).writeValueAsString(item));
+        assertEquals(mapper.writeValueAsString(new Code()), codecs.writer().writeValueAsString(new Code()));
+        assertEquals("{\"Code\":\"code\"}", codecs.writer().writeValueAsString(new Code()));
+        mapper.disable(SerializationFeature.WRAP_ROOT_VALUE);
+        Item read = codecs.reader(Item.class).readValue("{\"name\":\"b\",\"x\":1}");
+        assertEquals("b", read.name);
+    }
+
+    public static class Item {
+        public String name;
+    }
+
+    public static class Code {
+    }
+}
@@ -0,0 +1,131 @@
+package cn.trve.framework.web.json;
+
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import cn.trve.framework.web.util.JsonUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLinesWriterTest {
+
+    @Test
+    void fsyncPoliciesWriteEveryLine(@TempDir Path dir) throws IOException {
+        for (JsonLinesWriter.FsyncPolicy policy : JsonLinesWriter.FsyncPolicy.values()) {
+            Path file = dir.resolve(policy + ".jsonl");
+            try (JsonLinesWriter writer = JsonUtils.jsonLinesWriter(file)
+                    .fsyncPolicy(policy)
+                    .fsyncInterval(Duration.ofMillis(10))
+                    .maxBatchSize(7)
+                    .build()) {
+                for (int i = 0; i < 50; i++) {
+                    writer.write(Map.of("id", i));
+                }
+                writer.flush();
+                assertEquals(50, Files.readAllLines(file).size(), policy.name());
+                writer.write(Map.of("id", 50));
+            }
+            assertEquals(51, Files.readAllLines(file).size(), policy.name());
+        }
+    }
+
+    @Test
+    void rotateKeepsEveryLine(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("records.jsonl");
+        try (JsonLinesWriter writer = JsonUtils.jsonLinesWriter(file)
+                .maxFileSize(256)
+                .bufferSize(64)
+                .build()) {
+            for (int i = 0; i < 100; i++) {
+                writer.write(Map.of("id", i));
+            }
+        }
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.toList();
+        }
+        assertTrue(files.size() > 1);
+        int lines = 0;
+        for (Path path : files) {
+            assertTrue(Files.size(path) <= 256, path.toString());
+            lines += Files.readAllLines(path).size();
+        }
+        assertEquals(100, lines);
+    }
+
+    @Test
+    void writeFailurePropagates(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("records.jsonl");
+        JsonLinesWriter writer = JsonUtils.jsonLinesWriter(file).maxFileSize(64).build();
+        writer.write(Map.of("id", 0));
+        writer.flush();
+        //文件被外部删除后轮转失败
+        Files.delete(file);
+        for (int i = 1; i < 10; i++) {
+            writer.write(Map.of("id", i));
+        }
+        assertThrows(BaseRuntimeException.class, writer::flush);
+        assertThrows(BaseRuntimeException.class, () -> writer.write(Map.of("id", 10)));
+        writer.close();
+        assertThrows(BaseRuntimeException.class, () -> writer.write(Map.of("id", 11)));
+        assertThrows(BaseRuntimeException.class, writer::flush);
+    }
+
+    @Test
+    void closeRacingWithProducersLosesNothing(@TempDir Path dir) throws Exception {
+        int producers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            for (int round = 0; round < 20; round++) {
+                Path file = dir.resolve(round + ".jsonl");
+                JsonLinesWriter writer = JsonUtils.jsonLinesWriter(file).queueCapacity(16).build();
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> futures = new ArrayList<>();
+                for (int p = 0; p < producers; p++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        int written = 0;
+                        try {
+                            while (true) {
+                                writer.write(Map.of("id", written));
+                                written++;
+                                if (written % 10 == 0) {
+                                    writer.flush();
+                                }
+                            }
+                        } catch (BaseRuntimeException e) {
+                            return written;
+                        }
+                    }));
+                }
+                start.countDown();
+                Thread.sleep(5);
+                writer.close();
+                int written = 0;
+                for (Future<Integer> future : futures) {
+                    written += assertTimeoutPreemptively(Duration.ofSeconds(10), () -> future.get());
+                }
+                //close返回前提交成功的每一行都已写出
+                assertEquals(written, Files.readAllLines(file).size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
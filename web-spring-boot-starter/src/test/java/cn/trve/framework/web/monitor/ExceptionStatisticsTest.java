@@ -0,0 +1,58 @@
+package cn.trve.framework.web.monitor;
+
+import cn.trve.framework.web.constant.enums.LogLevelEnum;
+import cn.trve.framework.web.exception.ExceptionFingerprint;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExceptionStatisticsTest {
+
+    @Test
+    void topClampsCount() {
+        ExceptionStatistics statistics = new ExceptionStatistics(16);
+        for (int i = 0; i < 3; i++) {
+            statistics.record(new ExceptionFingerprint("E" + i, "", "t"), "/orders", LogLevelEnum.WARN);
+        }
+        assertTrue(statistics.top(-1, 60).isEmpty());
+        assertTrue(statistics.top(0, 60).isEmpty());
+        assertEquals(2, statistics.top(2, 60).size());
+        assertEquals(3, statistics.top(Integer.MAX_VALUE, 60).size());
+    }
+
+    @Test
+    void windowExpiresAndBucketsAreReused() {
+        AtomicLong clock = new AtomicLong(10);
+        ExceptionStatistics statistics = new ExceptionStatistics(16, clock::get);
+        ExceptionFingerprint fingerprint = new ExceptionFingerprint("E", "", "t");
+        statistics.record(fingerprint, "/orders", LogLevelEnum.ERROR);
+        statistics.record(fingerprint, "/orders", LogLevelEnum.ERROR);
+        assertEquals(2, statistics.top(1, 60).get(0).count());
+
+        clock.set(69);
+        assertEquals(2, statistics.top(1, 60).get(0).count());
+        clock.set(70);
+        assertTrue(statistics.top(1, 60).isEmpty());
+
+        //与第10秒落在同一个桶, 旧的次数不再计入
+        clock.set(10 + ExceptionStatistics.MAX_WINDOW_SECONDS);
+        statistics.record(fingerprint, "/orders", LogLevelEnum.ERROR);
+        ExceptionStatistics.ExceptionStat stat = statistics.top(1, ExceptionStatistics.MAX_WINDOW_SECONDS).get(0);
+        assertEquals(1, stat.count());
+        assertEquals(3, stat.total());
+    }
+
+    @Test
+    void negativeSecondsMapToValidBuckets() {
+        AtomicLong clock = new AtomicLong(-7);
+        ExceptionStatistics statistics = new ExceptionStatistics(16, clock::get);
+        statistics.record(new ExceptionFingerprint("E", "", "t"), "/orders", LogLevelEnum.ERROR);
+        clock.set(-6);
+        statistics.record(new ExceptionFingerprint("E", "", "t"), "/orders", LogLevelEnum.ERROR);
+        assertEquals(2, statistics.top(1, 2).get(0).count());
+        assertEquals(1, statistics.top(1, 1).get(0).count());
+    }
+}
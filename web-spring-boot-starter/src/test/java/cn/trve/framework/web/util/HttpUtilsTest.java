@@ -1,8 +1,20 @@
 package cn.trve.framework.web.util;
 
+import cn.trve.framework.web.constant.enums.DataFormatEnum;
+import com.sun.net.httpserver.HttpServer;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class HttpUtilsTest {
 
@@ -19,4 +31,71 @@ class HttpUtilsTest {
     @Test
     void doUploadStringResponseAsync() {
     }
-}
\ No newline at end of file
+
+    @Test
+    void jsonRequests() throws IOException, InterruptedException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        //回显请求方法、Content-Type和请求体
+        server.createContext("/echo", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            byte[] response = JsonUtils.toBytes(Map.of("method", exchange.getRequestMethod(),
+                    "contentType", String.valueOf(exchange.getRequestHeaders().getFirst("Content-Type")),
+                    "body", body));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.createContext("/status", exchange -> {
+            int status = Integer.parseInt(exchange.getRequestURI().getQuery());
+            byte[] response = "{\"error\":\"bad\"}".getBytes(StandardCharsets.UTF_8);
+            if (status == 204) {
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(status, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+        try {
+            String url = "http://localhost:" + server.getAddress().getPort() + "/echo";
+            Map<String, String> payload = Map.of("name", "中文");
+
+            Echo get = HttpUtils.doGetJson(url, Map.of(), 5000, Echo.class);
+            assertEquals("GET", get.method);
+            assertEquals("", get.body);
+
+            Echo post = HttpUtils.doPostJson(url, Map.of(), payload, 5000, Echo.class);
+            assertEquals("POST", post.method);
+            assertEquals("{\"name\":\"中文\"}", post.body);
+            assertTrue(post.contentType.startsWith("application/json"), post.contentType);
+
+            Echo put = HttpUtils.doPutJson(url, Map.of("Content-Type", "text/plain"), payload, 5000, Echo.class);
+            assertEquals("PUT", put.method);
+            assertEquals(payload, JsonUtils.fromMap(put.body));
+            assertTrue(put.contentType.startsWith("application/json"), put.contentType);
+
+            //先检查状态再解码: 204返回null, 非2xx不按成功响应绑定
+            String status = "http://localhost:" + server.getAddress().getPort() + "/status?";
+            assertNull(HttpUtils.doPostJson(status + 204, Map.of(), payload, 5000, Echo.class));
+            HttpUtils.HttpStatusException e = assertThrows(HttpUtils.HttpStatusException.class,
+                    () -> HttpUtils.doGetJson(status + 500, Map.of(), 5000, Echo.class));
+            assertEquals(500, e.getStatusCode());
+            assertEquals("{\"error\":\"bad\"}", e.getBody());
+            assertThrows(HttpUtils.HttpStatusException.class,
+                    () -> HttpUtils.doGetObject(status + 404, Map.of(), 5000, Echo.class, DataFormatEnum.JSON));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    public static class Echo {
+        public String method;
+        public String contentType;
+        public String body;
+    }
+}
@@ -0,0 +1,471 @@
+package cn.trve.framework.web.util;
+
+import cn.trve.framework.web.constant.enums.DataFormatEnum;
+import cn.trve.framework.web.exception.BaseRuntimeException;
+import cn.trve.framework.web.json.CanonicalJson;
+import cn.trve.framework.web.json.JsonDiff;
+import cn.trve.framework.web.json.JsonExtractor;
+import cn.trve.framework.web.json.JsonLimits;
+import cn.trve.framework.web.json.JsonLinesWriter;
+import cn.trve.framework.web.json.JsonPatch;
+import cn.trve.framework.web.json.JsonValidator;
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonUtilsTest {
+
+    private static final String JSON = "{\"skip\":{\"a\":[1,2,{\"b\":3}]},\"name\":\"trve\",\"count\":12,"
+            + "\"price\":\"9.90\",\"enabled\":true,\"empty\":null,"
+            + "\"data\":{\"items\":[{\"id\":1,\"tags\":[\"x\",\"y\"]},{\"id\":2}]},\"a.b\":\"literal\"}";
+
+    @Test
+    void getAsTopLevelKey() {
+        assertEquals("trve", JsonUtils.getAsString(JSON, "name"));
+        assertEquals(12, JsonUtils.getAsInt(JSON, "count"));
+        assertEquals(12L, JsonUtils.getAsLong(JSON, "count"));
+        assertEquals(new BigDecimal("9.90"), JsonUtils.getAsBigDecimal(JSON, "price"));
+        assertTrue(JsonUtils.getAsBoolean(JSON, "enabled"));
+        assertEquals("null", JsonUtils.getAsString(JSON, "empty"));
+        assertNull(JsonUtils.getAsString(JSON, "missing"));
+        assertEquals(0, JsonUtils.getAsInt(JSON, "missing"));
+    }
+
+    @Test
+    void getAsDottedPath() {
+        assertEquals(2, JsonUtils.getAsInt(JSON, "data.items.1.id"));
+        assertEquals("y", JsonUtils.getAsString(JSON, "data.items.0.tags.1"));
+        assertNull(JsonUtils.getAsString(JSON, "data.items.5.id"));
+        assertEquals("literal", JsonUtils.getAsString(JSON, "a.b"));
+    }
+
+    @Test
+    void getAsJsonPointer() {
+        assertEquals(1, JsonUtils.getAsInt(JSON, "/data/items/0/id"));
+        assertEquals("[\"x\",\"y\"]", JsonUtils.getAsString(JSON, "/data/items/0/tags"));
+        assertEquals(List.of("x", "y"), JsonUtils.getAsList(JSON, "/data/items/0/tags", String.class));
+        assertNull(JsonUtils.getAsJsonObject(JSON, "/data/none"));
+    }
+
+    @Test
+    void extractMultipleFields() {
+        JsonExtractor extractor = JsonUtils.extractor()
+                .field("name", String.class)
+                .field("count", Long.class)
+                .field("/enabled", Boolean.class)
+                .field("data.items.1.id", Integer.class)
+                .field("data.items.0", JsonNode.class)
+                .field("data.items.0.tags.0", String.class)
+                .field("a.b", String.class)
+                .field("missing", String.class)
+                .build();
+        JsonExtractor.Values values = extractor.extract(JSON);
+        assertEquals("trve", values.get(0));
+        assertEquals(12L, (Long) values.get("count"));
+        assertEquals(Boolean.TRUE, values.get("/enabled"));
+        assertEquals(2, (Integer) values.get("data.items.1.id"));
+        assertEquals(1, ((JsonNode) values.get("data.items.0")).get("id").intValue());
+        assertEquals("x", values.get("data.items.0.tags.0"));
+        assertEquals("literal", values.get("a.b"));
+        assertNull(values.get("missing"));
+    }
+
+    @Test
+    void streamArrayAndJsonLines() {
+        String array = "[{\"id\":1},{\"id\":2},{\"id\":3}]";
+        try (Stream<Map<String, Object>> stream = JsonUtils.stream(
+                new ByteArrayInputStream(array.getBytes(StandardCharsets.UTF_8)), new TypeReference<>() {})) {
+            assertEquals(List.of(1, 2), stream.limit(2).map(m -> m.get("id")).toList());
+        }
+        String lines = "{\"id\":1}\n{\"id\":2}\n";
+        try (Stream<JsonNode> stream = JsonUtils.stream(
+                new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)), JsonNode.class)) {
+            assertEquals(3, stream.mapToInt(n -> n.get("id").intValue()).sum());
+        }
+    }
+
+    @Test
+    void writeAndReadJsonLinesInParallel(@TempDir Path dir) {
+        Path file = dir.resolve("records.jsonl");
+        int count = 100_000;
+        try (JsonLinesWriter writer = JsonUtils.jsonLinesWriter(file)
+                .fsyncPolicy(JsonLinesWriter.FsyncPolicy.BATCH)
+                .build()) {
+            for (int i = 0; i < count; i++) {
+                writer.write(Map.of("id", i, "name", "record-" + i));
+            }
+        }
+        try (Stream<JsonNode> stream = JsonUtils.parallelStream(file, JsonNode.class)) {
+            List<Integer> ids = stream.map(n -> n.get("id").intValue()).toList();
+            assertEquals(count, ids.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, ids.get(i));
+            }
+        }
+    }
+
+    @Test
+    void editKeepsFieldOrder() {
+        String json = "{\"a\":1,\"b\":{\"c\":[1,2]},\"d\":\"x\"}";
+        assertEquals("{\"a\":1,\"b\":2,\"d\":\"x\"}", JsonUtils.update(json, "b", 2));
+        assertEquals("{\"a\":1,\"b\":{\"c\":[1,2]},\"d\":\"x\",\"e\":true}", JsonUtils.add(json, "e", true));
+        assertEquals("{\"a\":1,\"d\":\"x\"}", JsonUtils.remove(json, "b"));
+        assertEquals("{\"a\":1,\"b\":{\"c\":[1,2]}}",
+                new String(JsonUtils.remove(json.getBytes(StandardCharsets.UTF_8), "d"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void mergeAndJsonPatch() {
+        String json = "{\"a\":\"b\",\"c\":{\"d\":\"e\",\"f\":\"g\"},\"h\":[1]}";
+        assertEquals("{\"a\":\"z\",\"c\":{\"d\":\"e\"},\"h\":[2],\"i\":{\"j\":1}}",
+                JsonUtils.mergePatch(json, "{\"a\":\"z\",\"c\":{\"f\":null},\"h\":[2],\"i\":{\"j\":1,\"k\":null}}"));
+        assertEquals("[1]", JsonUtils.mergePatch(json, "[1]"));
+        String patch = "[{\"op\":\"test\",\"path\":\"/h/0\",\"value\":1.0},"
+                + "{\"op\":\"replace\",\"path\":\"/a\",\"value\":\"z\"},"
+                + "{\"op\":\"add\",\"path\":\"/h/-\",\"value\":2},"
+                + "{\"op\":\"move\",\"from\":\"/c/d\",\"path\":\"/d\"},"
+                + "{\"op\":\"copy\",\"from\":\"/h\",\"path\":\"/h2\"},"
+                + "{\"op\":\"remove\",\"path\":\"/c/f\"}]";
+        assertEquals("{\"a\":\"z\",\"c\":{},\"h\":[1,2],\"d\":\"e\",\"h2\":[1,2]}", JsonUtils.patch(json, patch));
+        assertThrows(BaseRuntimeException.class,
+                () -> JsonUtils.patch(json, "[{\"op\":\"remove\",\"path\":\"/x\"}]"));
+    }
+
+    @Test
+    void lenientInputOnlyOnLenientPaths(@TempDir Path dir) throws IOException {
+        String lenient = "{id:1, 'name':'a', /* comment */ \"n\":007,}";
+        byte[] bytes = lenient.getBytes(StandardCharsets.UTF_8);
+        //String入口保持宽松
+        assertEquals(7, JsonUtils.fromMap(lenient).get("n"));
+        //内部流量的字节、ByteBuffer与流式入口使用严格解析
+        assertThrows(BaseRuntimeException.class, () -> JsonUtils.from(bytes, Map.class));
+        assertThrows(BaseRuntimeException.class, () -> JsonUtils.fromMap(bytes));
+        assertThrows(BaseRuntimeException.class, () -> JsonUtils.fromList(("[" + lenient + "]")
+                .getBytes(StandardCharsets.UTF_8), Map.class));
+        assertThrows(BaseRuntimeException.class, () -> JsonUtils.from(ByteBuffer.wrap(bytes), Map.class));
+        assertThrows(RuntimeException.class, () -> {
+            try (Stream<JsonNode> stream = JsonUtils.stream(new ByteArrayInputStream(bytes), JsonNode.class)) {
+                stream.toList();
+            }
+        });
+        Path file = Files.write(dir.resolve("lenient.jsonl"), List.of("{\"id\":1}", lenient));
+        assertThrows(RuntimeException.class, () -> {
+            try (Stream<JsonNode> stream = JsonUtils.parallelStream(file, JsonNode.class)) {
+                stream.toList();
+            }
+        });
+        assertEquals(Map.of("id", 1, "name", "a", "n", 7), JsonUtils.from(
+                "{\"id\":1,\"name\":\"a\",\"n\":7}".getBytes(StandardCharsets.UTF_8), Map.class));
+    }
+
+    @Test
+    void validateWithLimits() {
+        assertTrue(JsonUtils.isJson(JSON));
+        assertTrue(JsonUtils.isJson("{'a':1 /* lenient */}"));
+        assertFalse(JsonUtils.isJson(""));
+        assertFalse(JsonUtils.isJson("{\"a\":1} {}"));
+        assertFalse(JsonUtils.isJson("{\"a\":[1,2"));
+        //不指定限制时不限制结构
+        String deep = "[".repeat(300) + "]".repeat(300);
+        assertTrue(JsonUtils.isJson(deep));
+        assertFalse(JsonUtils.isJson(deep, JsonLimits.DEFAULT));
+        JsonLimits limits = JsonLimits.builder().maxDepth(3).maxStringLength(4).maxObjectFields(2).build();
+        assertNull(JsonUtils.validate("{\"a\":[{\"b\":\"1234\"}]}", limits));
+        assertEquals(JsonValidator.Type.DEPTH, JsonUtils.validate("[[[[1]]]]", limits).type());
+        assertEquals(JsonValidator.Type.STRING_LENGTH, JsonUtils.validate("[\"12345\"]", limits).type());
+        assertEquals(JsonValidator.Type.OBJECT_FIELDS, JsonUtils.validate("{\"a\":1,\"b\":2,\"c\":3}", limits).type());
+        JsonValidator.Violation violation = JsonUtils.validate("{\n\"a\":tru}".getBytes(StandardCharsets.UTF_8), limits);
+        assertEquals(JsonValidator.Type.SYNTAX, violation.type());
+        assertEquals(2, violation.line());
+    }
+
+    @Test
+    void canonicalFormAndHash() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("b", List.of(1.50, 2));
+        map.put("a", Map.of("y", new BigDecimal("10.0"), "x", "v"));
+        String canonical = JsonUtils.toCanonical(map);
+        assertEquals("{\"a\":{\"x\":\"v\",\"y\":10},\"b\":[1.5,2]}", canonical);
+        JsonNode node = JsonUtils.from("{ \"b\" : [1.5000, 2.0], \"a\": {\"y\": 1e1, \"x\": \"v\"} }", JsonNode.class);
+        assertEquals(canonical, JsonUtils.toCanonical(node));
+        assertEquals(JsonUtils.contentHash(map), JsonUtils.contentHash(node));
+        assertEquals(64, JsonUtils.contentHash(map).length());
+    }
+
+    @Test
+    void canonicalStreamsLikeTree() {
+        ObjectMapper mapper = JsonUtils.getObjectMapper();
+        CanonicalJson canonical = new CanonicalJson(mapper);
+        Map<String, Object> map = new HashMap<>();
+        map.put("z", new BigDecimal("1.50"));
+        map.put("a", List.of(1L, 2.0, 3.5f, new BigInteger("100000000000000000000000")));
+        map.put("m", Map.of("y", 1e-30, "x", Double.NaN));
+        map.put("n", null);
+        SampleEntity entity = new SampleEntity();
+        entity.setId(42L);
+        entity.setName("trve");
+        entity.setCreateDate(LocalDateTime.of(2026, 10, 19, 8, 30, 15));
+        CanonicalBean bean = new CanonicalBean();
+        bean.map = map;
+        bean.entity = entity;
+        //后四个无法按名称流式输出, 转为树输出
+        OrderedBean ordered = new OrderedBean();
+        ordered.tree = JsonUtils.from("{\"b\":1,\"a\":2}", JsonNode.class);
+        List<Object> values = List.of(map, entity, bean, List.of(bean, "s", 1), "text", 1.0,
+                ordered, Map.of(10, "a", 9, "b"), new AnyBean(), new RawBean());
+        for (Object value : values) {
+            JsonNode tree = mapper.valueToTree(value);
+            assertEquals(canonical.toString(tree), canonical.toString(value), String.valueOf(value));
+            assertEquals(canonical.sha256Hex(tree), canonical.sha256Hex(value));
+        }
+        //POJO与Map流式输出, 不转为树
+        CanonicalJson streaming = new CanonicalJson(new NoTreeMapper(mapper));
+        for (Object value : values.subList(0, 6)) {
+            assertEquals(canonical.toString(value), streaming.toString(value));
+        }
+        assertThrows(AssertionError.class, () -> streaming.toString(ordered));
+    }
+
+    public static class CanonicalBean {
+        public int[] ints = {3, 1, 2};
+        public double[] doubles = {1.10, 2e21};
+        public Map<String, Object> map;
+        public SampleEntity entity;
+        public Date date = new Date(1792000000000L);
+        public String absent;
+        public float ratio = 0.1f;
+    }
+
+    @JsonPropertyOrder({"tree", "name"})
+    public static class OrderedBean {
+        public String name = "n";
+        public JsonNode tree;
+    }
+
+    public static class AnyBean {
+        public String a = "a";
+
+        @JsonAnyGetter
+        public Map<String, Object> any() {
+            return Map.of("0", 1.0);
+        }
+    }
+
+    public static class RawBean {
+        @JsonRawValue
+        public String raw = "{\"b\":1.0,\"a\":[1.50]}";
+    }
+
+    /**
+     * 转为树时失败, 用于确认流式输出没有转为树
+     */
+    private static final class NoTreeMapper extends ObjectMapper {
+
+        private NoTreeMapper(ObjectMapper src) {
+            super(src);
+        }
+
+        @Override
+        public ObjectMapper copy() {
+            return new NoTreeMapper(this);
+        }
+
+        @Override
+        public <T extends JsonNode> T valueToTree(Object fromValue) {
+            throw new AssertionError("不应转为树");
+        }
+    }
+
+    @Test
+    void diffProducesApplicablePatch() {
+        String source = "{\"a\":1,\"b\":{\"c\":\"x\",\"d\":[1,2,3,4]},\"e\":true,\"s/t\":0}";
+        String target = "{\"a\":1.0,\"b\":{\"d\":[1,9,3,4,5],\"c\":\"y\"},\"f\":null,\"s/t\":1}";
+        ArrayNode patch = JsonUtils.diff(source, target);
+        assertTrue(JsonUtils.isEqual(JsonUtils.patch(source, patch.toString()), target));
+        assertEquals(0, JsonUtils.diff(source, source).size());
+        assertTrue(JsonUtils.isEqual("{\"a\":[1,{\"b\":2,\"c\":3}]}", "{\"a\":[1.0,{\"c\":3,\"b\":2}]}"));
+        assertFalse(JsonUtils.isEqual("{\"a\":[1,2]}", "{\"a\":[1,2,3]}"));
+
+        String insert = "[0,1,2,3]";
+        ArrayNode lcs = JsonUtils.diff("[1,2,3]", insert);
+        assertEquals("[{\"op\":\"add\",\"path\":\"/0\",\"value\":0}]", lcs.toString());
+        JsonDiff indexDiff = JsonUtils.differ().arrayMode(JsonDiff.ArrayMode.INDEX).build();
+        ArrayNode indexed = indexDiff.diff("[1,2,3]", insert);
+        assertEquals(4, indexed.size());
+        assertTrue(JsonUtils.isEqual(JsonUtils.patch("[1,2,3]", indexed.toString()), insert));
+    }
+
+    @Test
+    void diffComparesNonFiniteNumbers() {
+        assertTrue(JsonUtils.isEqual("[NaN,Infinity,-Infinity]", "[NaN,Infinity,-Infinity]"));
+        assertFalse(JsonUtils.isEqual("[NaN]", "[1]"));
+        assertFalse(JsonUtils.isEqual("[Infinity]", "[-Infinity]"));
+        assertEquals(1, JsonUtils.diff("[NaN,1]", "[NaN,2]").size());
+
+        JsonNode source = JsonUtils.getObjectMapper().createArrayNode().add(Double.NaN).add(1.5);
+        JsonNode target = JsonUtils.getObjectMapper().createArrayNode().add(Double.NaN).add(Double.POSITIVE_INFINITY);
+        ArrayNode patch = JsonUtils.differ().build().diff(source, target);
+        assertEquals(1, patch.size());
+        ArrayNode test = JsonUtils.getObjectMapper().createArrayNode();
+        test.addObject().put("op", "test").put("path", "/0").put("value", Double.NaN);
+        assertEquals(target, JsonPatch.apply(JsonPatch.apply(source.deepCopy(), patch), test));
+    }
+
+    @Test
+    void binaryFormatsRoundTrip() {
+        Map<String, Object> value = Map.of("id", 1, "name", "trve", "tags", List.of("x", "y"));
+        for (DataFormatEnum format : DataFormatEnum.values()) {
+            byte[] bytes = JsonUtils.toBytes(value, format);
+            Map<String, Object> read = JsonUtils.from(bytes, Map.class, format);
+            assertEquals(value, read, format.name());
+        }
+        assertEquals(DataFormatEnum.SMILE, DataFormatEnum.ofContentType("Application/X-Jackson-Smile; q=1"));
+        assertEquals(DataFormatEnum.JSON, DataFormatEnum.ofContentType(null));
+    }
+
+    @Test
+    void blackbirdKeepsAnnotations() {
+        ObjectMapper reflection = JsonUtils.initMapperConfig(JsonMapper.builder().build(), false);
+        ObjectMapper blackbird = JsonUtils.initMapperConfig(JsonMapper.builder().build(), true);
+        SampleEntity entity = new SampleEntity();
+        entity.setId(1234567890123456789L);
+        entity.setCreateDate(LocalDateTime.of(2026, 10, 21, 8, 30));
+        entity.setVersion(3L);
+        entity.setName("trve");
+        assertEquals("{\"id\":\"1234567890123456789\",\"createDate\":\"2026-10-21T08:30:00\",\"name\":\"trve\"}",
+                assertDoesNotThrow(() -> blackbird.writeValueAsString(entity)));
+        assertEquals(assertDoesNotThrow(() -> reflection.writeValueAsString(entity)),
+                assertDoesNotThrow(() -> blackbird.writeValueAsString(entity)));
+        SampleEntity read = assertDoesNotThrow(() -> blackbird.readValue(
+                "{\"id\":\"1\",\"createDate\":\"2026-10-21T08:30:00\",\"name\":\"trve\",\"version\":9}", SampleEntity.class));
+        assertEquals(1L, read.getId());
+        assertEquals("trve", read.getName());
+        assertNull(read.getVersion());
+    }
+
+    /**
+     * 与数据库模块Entity相同的注解组合
+     */
+    public static class SampleEntity {
+        @JsonSerialize(using = ToStringSerializer.class)
+        private Long id;
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        private LocalDateTime createDate;
+        @JsonIgnore
+        private Long version;
+        private String name;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public LocalDateTime getCreateDate() {
+            return createDate;
+        }
+
+        public void setCreateDate(LocalDateTime createDate) {
+            this.createDate = createDate;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Test
+    void byteApisRoundTrip() {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("name", "中文");
+        value.put("count", 3);
+        byte[] bytes = JsonUtils.toBytes(value);
+        assertEquals("{\"name\":\"中文\",\"count\":3}", new String(bytes, StandardCharsets.UTF_8));
+        assertEquals(value, JsonUtils.fromMap(bytes));
+        assertEquals(List.of(1, 2), JsonUtils.fromList("[1,2]".getBytes(StandardCharsets.UTF_8), Integer.class));
+        assertEquals(value, JsonUtils.from(ByteBuffer.wrap(bytes), new TypeReference<Map<String, Object>>() {
+        }));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.to(value, out);
+        assertArrayEquals(bytes, out.toByteArray());
+
+        ByteBuffer buffer = ByteBuffer.allocate(64).position(5);
+        assertEquals(bytes.length, JsonUtils.to(value, buffer));
+        assertEquals(5 + bytes.length, buffer.position());
+        assertArrayEquals(bytes, Arrays.copyOfRange(buffer.array(), 5, 5 + bytes.length));
+    }
+
+    @Test
+    void bufferOverflowRestoresPosition() {
+        //小报文在最后刷出时溢出, 大报文(超过Jackson约8KB的输出缓冲区)在序列化过程中溢出
+        List<Map<String, Integer>> large = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            large.add(Map.of("id", i));
+        }
+        for (Object value : List.of(Map.of("name", "trve"), large)) {
+            ByteBuffer buffer = ByteBuffer.allocate(value == large ? 12000 : 8).position(5);
+            assertThrows(BufferOverflowException.class, () -> JsonUtils.to(value, buffer));
+            assertEquals(5, buffer.position());
+        }
+    }
+
+    @Test
+    void getAsNonObjectRoot() {
+        assertNull(JsonUtils.getAsJsonObject("[1,2]", "name"));
+        assertNull(JsonUtils.getAsJsonObject("", "name"));
+        assertFalse(JsonUtils.getAsBoolean("{}", "enabled"));
+    }
+}